@@ -0,0 +1,22 @@
+package com.camping.legacy.config;
+
+/**
+ * 예약 생성/수정 시 동시성 제어 방식
+ */
+public enum BookingMode {
+
+    /**
+     * 사이트 행 잠금 없이 reservation_nights 유니크 제약으로 중복 예약 방지 (기본값)
+     */
+    LEDGER,
+
+    /**
+     * 사이트를 일반 조회 후 커밋 시 버전을 올려 충돌을 감지하고, 충돌 시 자동 재시도
+     */
+    OPTIMISTIC,
+
+    /**
+     * 사이트별 파티션 큐에 모아 파티션당 하나의 작업자가 여러 건을 한 트랜잭션으로 커밋
+     */
+    PIPELINE
+}
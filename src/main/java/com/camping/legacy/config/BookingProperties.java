@@ -0,0 +1,75 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 처리 설정 (application.yml의 camping.booking)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.booking")
+public class BookingProperties {
+
+    private BookingMode mode = BookingMode.LEDGER;
+
+    /**
+     * 사이트 종류만 지정한 예약의 사이트 배정 방식
+     */
+    private SiteAssignmentPolicy assignment = SiteAssignmentPolicy.BEST_FIT;
+
+    private Optimistic optimistic = new Optimistic();
+
+    private Pipeline pipeline = new Pipeline();
+
+    @Getter
+    @Setter
+    public static class Optimistic {
+
+        /**
+         * 최초 시도를 포함한 최대 시도 횟수
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 재시도 대기 시간 기준값 (시도마다 2배씩 증가, 0~기준값 사이 무작위)
+         */
+        private long baseBackoffMillis = 20;
+
+        private long maxBackoffMillis = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+
+        /**
+         * 파티션 수 (같은 사이트는 항상 같은 파티션으로 배정)
+         */
+        private int partitions = 16;
+
+        /**
+         * 파티션 큐를 처리하는 작업 스레드 수
+         */
+        private int workerThreads = 4;
+
+        /**
+         * 한 트랜잭션으로 커밋할 최대 예약 수
+         */
+        private int maxBatchSize = 32;
+
+        /**
+         * 요청 스레드가 처리 시작을 기다리는 최대 시간 (처리 전이면 취소)
+         */
+        private long timeoutMillis = 10000;
+
+        /**
+         * 그룹 커밋 / 요청별 재처리 트랜잭션의 시간 제한 (초)
+         * 처리 중인 요청의 결과는 이 시간(+여유 1초)까지만 더 기다린다.
+         */
+        private int commitTimeoutSeconds = 5;
+    }
+}
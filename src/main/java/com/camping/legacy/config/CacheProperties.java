@@ -0,0 +1,26 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 가능 여부 / 캘린더 조회 캐시 설정 (application.yml의 camping.cache)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.cache")
+public class CacheProperties {
+
+    /**
+     * 빈 사이트 검색 결과 최대 보관 수 (기간 + 조건별, 넘치면 가장 오래 안 쓴 것부터 제거)
+     */
+    private int searchMaxEntries = 512;
+
+    /**
+     * 월별 캘린더 최대 보관 수 (사이트 + 월별)
+     */
+    private int calendarMaxEntries = 1024;
+}
@@ -0,0 +1,26 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 내보내기 설정 (application.yml의 camping.export)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.export")
+public class ExportProperties {
+
+    /**
+     * 커서에서 한 번에 가져오는 행 수 (메모리에는 이만큼만 올라옴)
+     */
+    private int fetchSize = 500;
+
+    /**
+     * 이 행 수마다 응답을 flush
+     */
+    private int flushEveryRows = 500;
+}
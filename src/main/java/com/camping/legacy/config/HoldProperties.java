@@ -0,0 +1,31 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 홀드 설정 (application.yml의 camping.hold)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.hold")
+public class HoldProperties {
+
+    /**
+     * 홀드 유지 시간 (예약 폼 작성 시간)
+     */
+    private long ttlSeconds = 600;
+
+    /**
+     * 타이머 휠 한 칸의 시간 (만료 시각 오차 범위)
+     */
+    private long tickMillis = 1000;
+
+    /**
+     * 타이머 휠 칸 수 (2의 거듭제곱으로 올림)
+     */
+    private int wheelSize = 512;
+}
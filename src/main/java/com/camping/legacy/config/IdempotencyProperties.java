@@ -0,0 +1,32 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등성 키 설정 (application.yml의 camping.idempotency)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 메모리에 보관하는 최대 키 수 (초과 시 가장 오래 사용되지 않은 키부터 제거)
+     */
+    private int cacheSize = 10000;
+
+    /**
+     * 키 유효 시간 (메모리 / 테이블 공통)
+     */
+    private long ttlSeconds = 86400;
+
+    /**
+     * 처리 중 선점 유지 시간 (응답 없이 이보다 오래된 선점은 같은 요청의 재시도가 넘겨받음)
+     * 예약 처리에 걸리는 최대 시간보다 길게 잡는다.
+     */
+    private long claimLeaseSeconds = 60;
+}
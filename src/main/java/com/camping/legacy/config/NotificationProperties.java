@@ -0,0 +1,31 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 발송 설정 (application.yml의 camping.notification)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.notification")
+public class NotificationProperties {
+
+    /**
+     * 발송기에 한 번에 넘기는 최대 알림 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 아웃박스 확인 주기 (커밋 직후에는 주기와 무관하게 바로 깨움)
+     */
+    private long pollIntervalMillis = 500;
+
+    /**
+     * 발송 실패 시 최대 시도 횟수 (초과하면 FAILED로 남김)
+     */
+    private int maxAttempts = 5;
+}
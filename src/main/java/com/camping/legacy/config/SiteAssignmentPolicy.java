@@ -0,0 +1,17 @@
+package com.camping.legacy.config;
+
+/**
+ * 사이트 종류만 지정한 예약에서 사이트를 고르는 방식
+ */
+public enum SiteAssignmentPolicy {
+
+    /**
+     * 예약 기간 앞뒤로 남는 빈 박이 가장 적은 사이트 (빈 기간 조각화 최소화)
+     */
+    BEST_FIT,
+
+    /**
+     * 기간 전체가 비어 있는 사이트 중 번호가 가장 낮은 사이트
+     */
+    LOWEST_SITE_NUMBER
+}
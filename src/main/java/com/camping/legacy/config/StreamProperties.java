@@ -0,0 +1,36 @@
+package com.camping.legacy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 가능 여부 실시간 스트림 설정 (application.yml의 camping.stream)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "camping.stream")
+public class StreamProperties {
+
+    /**
+     * 구독자별 미전송 이벤트 최대 수 (넘치면 연결을 끊고 재접속 시 Last-Event-ID로 다시 받음)
+     */
+    private int subscriberBufferSize = 64;
+
+    /**
+     * 재접속용으로 사이트별로 보관하는 최근 이벤트 수
+     */
+    private int replayBufferSize = 256;
+
+    /**
+     * 구독자에게 이벤트를 보내는 스레드 수
+     */
+    private int fanoutThreads = 2;
+
+    /**
+     * SSE 연결 유지 시간 (끊기면 브라우저가 자동 재접속)
+     */
+    private long emitterTimeoutMillis = 1_800_000;
+}
@@ -1,15 +1,27 @@
 package com.camping.legacy.controller;
 
+import com.camping.legacy.dto.BatchReservationRequest;
 import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.dto.HoldRequest;
+import com.camping.legacy.dto.HoldResponse;
 import com.camping.legacy.dto.ReservationRequest;
 import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
+import com.camping.legacy.service.BookingService;
 import com.camping.legacy.service.CalendarService;
+import com.camping.legacy.service.ExportFormat;
+import com.camping.legacy.service.GroupReservationException;
+import com.camping.legacy.service.HoldService;
+import com.camping.legacy.service.ReservationExportService;
 import com.camping.legacy.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -22,6 +34,9 @@ import java.util.Map;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final BookingService bookingService;
+    private final HoldService holdService;
+    private final ReservationExportService reservationExportService;
 
     // CalendarService는 Deprecated 되었으나 하위 호환성을 위해 유지
     // 실제로는 ReservationService의 캘린더 메서드를 사용함
@@ -29,9 +44,11 @@ public class ReservationController {
     // private final CalendarService calendarService;
     
     @PostMapping
-    public ResponseEntity<?> createReservation(@RequestBody ReservationRequest request) {
+    public ResponseEntity<?> createReservation(
+            @RequestBody ReservationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            ReservationResponse response = reservationService.createReservation(request);
+            ReservationResponse response = bookingService.createReservation(request, idempotencyKey);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
@@ -40,6 +57,82 @@ public class ReservationController {
         }
     }
     
+    /**
+     * 단체 예약 (여러 사이트를 한 트랜잭션으로 예약)
+     * 한 사이트라도 실패하면 전체가 취소되고 사이트별 결과를 반환
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createReservationBatch(@RequestBody BatchReservationRequest request) {
+        try {
+            List<ReservationResult> results = bookingService.createReservationBatch(request.getReservations());
+            return ResponseEntity.status(HttpStatus.CREATED).body(results);
+        } catch (GroupReservationException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            error.put("results", e.getResults());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+    }
+
+    /**
+     * 홀드 생성 (예약 폼 작성 동안 사이트/기간 임시 점유)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<?> createHold(@RequestBody HoldRequest request) {
+        try {
+            HoldResponse response = holdService.createHold(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+    }
+
+    @GetMapping("/holds/{holdId}")
+    public ResponseEntity<?> getHold(@PathVariable String holdId) {
+        try {
+            return ResponseEntity.ok(holdService.getHold(holdId));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    /**
+     * 홀드 확정 (고객 정보를 받아 예약 생성)
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<?> confirmHold(@PathVariable String holdId, @RequestBody ReservationRequest request) {
+        try {
+            ReservationResponse response = bookingService.confirmHold(holdId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(@PathVariable String holdId) {
+        try {
+            holdService.releaseHold(holdId);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "홀드가 해제되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getReservation(@PathVariable Long id) {
         try {
@@ -52,6 +145,18 @@ public class ReservationController {
         }
     }
     
+    @GetMapping("/code/{confirmationCode}")
+    public ResponseEntity<?> getReservationByConfirmationCode(@PathVariable String confirmationCode) {
+        try {
+            ReservationResponse response = reservationService.getReservationByConfirmationCode(confirmationCode);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<ReservationResponse>> getReservations(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
@@ -88,7 +193,7 @@ public class ReservationController {
             @RequestBody ReservationRequest request,
             @RequestParam String confirmationCode) {
         try {
-            ReservationResponse response = reservationService.updateReservation(id, request, confirmationCode);
+            ReservationResponse response = bookingService.updateReservation(id, request, confirmationCode);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
@@ -97,6 +202,14 @@ public class ReservationController {
         }
     }
     
+    /**
+     * 예약 처리 통계 (낙관적 모드 재시도, 파이프라인 그룹 커밋 횟수)
+     */
+    @GetMapping("/booking-stats")
+    public ResponseEntity<Map<String, Long>> getBookingStatistics() {
+        return ResponseEntity.ok(bookingService.getStatistics());
+    }
+
     @GetMapping("/my")
     public ResponseEntity<List<ReservationResponse>> getMyReservations(
             @RequestParam String name,
@@ -122,4 +235,44 @@ public class ReservationController {
         // 신규 방식 (ReservationService 사용)
         return ResponseEntity.ok(reservationService.getMonthlyCalendar(year, month, siteId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 사이트 월별 예약 캘린더 (사이트당 한 줄 + 사이트별 요약)
+     */
+    @GetMapping("/calendar/all")
+    public ResponseEntity<?> getAllSitesCalendar(
+            @RequestParam Integer year,
+            @RequestParam Integer month) {
+        try {
+            return ResponseEntity.ok(reservationService.getAllSitesMonthlyCalendar(year, month));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 예약 내보내기 (format=csv|ndjson, 시작일 기준 기간 필터)
+     * 조회 결과를 모으지 않고 커서에서 읽는 대로 응답에 씀
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportReservations(
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ExportFormat exportFormat = ExportFormat.of(format);
+            StreamingResponseBody body = reservationExportService.export(exportFormat, from, to);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.camping.legacy.controller;
 
+import com.camping.legacy.dto.FlexibleSearchRequest;
 import com.camping.legacy.dto.SiteAvailabilityResponse;
 import com.camping.legacy.dto.SiteResponse;
 import com.camping.legacy.dto.SiteSearchRequest;
+import com.camping.legacy.service.AvailabilityCache;
+import com.camping.legacy.service.AvailabilityStreamService;
 import com.camping.legacy.service.SiteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/sites")
@@ -21,6 +29,8 @@ import java.util.List;
 public class SiteController {
     
     private final SiteService siteService;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final AvailabilityCache availabilityCache;
     
     @GetMapping
     public ResponseEntity<List<SiteResponse>> getAllSites() {
@@ -32,34 +42,122 @@ public class SiteController {
         return ResponseEntity.ok(siteService.getSiteById(siteId));
     }
     
+    /**
+     * 예약 가능 여부 (date 하루 또는 startDate~endDate 기간)
+     */
     @GetMapping("/{siteNumber}/availability")
-    public ResponseEntity<Map<String, Object>> checkAvailability(
+    public ResponseEntity<?> checkAvailability(
             @PathVariable String siteNumber,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        
-        boolean available = siteService.isAvailable(siteNumber, date);
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
         Map<String, Object> response = new HashMap<>();
         response.put("siteNumber", siteNumber);
-        response.put("date", date);
-        response.put("available", available);
+        try {
+            if (date != null) {
+                response.put("date", date);
+                response.put("available", siteService.isAvailable(siteNumber, date));
+            } else {
+                response.put("startDate", startDate);
+                response.put("endDate", endDate);
+                response.put("available", siteService.checkPeriodAvailability(siteNumber, startDate, endDate));
+            }
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
         
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 예약 가능 여부 실시간 스트림 (SSE, 재접속 시 Last-Event-ID 이후 변경분부터 전달)
+     */
+    @GetMapping("/{siteNumber}/availability/stream")
+    public ResponseEntity<?> streamAvailability(
+            @PathVariable String siteNumber,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        try {
+            SseEmitter emitter = availabilityStreamService.subscribe(siteNumber, lastEventId);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(emitter);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+    
+    /**
+     * 사이트 × 날짜 예약 가능 격자 (사이트당 비트 문자열 한 줄)
+     */
+    @GetMapping("/availability-matrix")
+    public ResponseEntity<?> getAvailabilityMatrix(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String size) {
+        try {
+            return ResponseEntity.ok(siteService.getAvailabilityMatrix(from, to, size));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 검색/캘린더 캐시 통계 (적중/실패/LRU 제거/무효화 수)
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Long>> getCacheStatistics() {
+        return ResponseEntity.ok(availabilityCache.getStatistics());
+    }
+    
     @GetMapping("/available")
-    public ResponseEntity<List<SiteAvailabilityResponse>> getAvailableSites(
+    public ResponseEntity<?> getAvailableSites(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(siteService.getAvailableSites(date));
+        try {
+            return ResponseEntity.ok(siteService.getAvailableSites(date));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
     
     @GetMapping("/search")
     public ResponseEntity<List<SiteAvailabilityResponse>> searchSites(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) String size) {
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) Boolean hasElectricity,
+            @RequestParam(required = false) String zone,
+            @RequestParam(required = false) Integer maxPeople) {
         
-        SiteSearchRequest request = new SiteSearchRequest(startDate, endDate, size);
+        SiteSearchRequest request = new SiteSearchRequest(startDate, endDate, size, hasElectricity, zone, maxPeople);
         return ResponseEntity.ok(siteService.searchAvailableSites(request));
     }
+    
+    /**
+     * 유연한 날짜 검색 (기간 안에서 nights박이 비어 있는 모든 사이트/시작일)
+     */
+    @GetMapping("/search/flexible")
+    public ResponseEntity<?> searchFlexibleDates(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate earliestStart,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate latestEnd,
+            @RequestParam Integer nights,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) Set<DayOfWeek> startDays) {
+        try {
+            FlexibleSearchRequest request = new FlexibleSearchRequest(earliestStart, latestEnd, nights, size, startDays);
+            return ResponseEntity.ok(siteService.searchFlexibleDates(request));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 }
\ No newline at end of file
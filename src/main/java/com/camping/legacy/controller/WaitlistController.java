@@ -0,0 +1,57 @@
+package com.camping.legacy.controller;
+
+import com.camping.legacy.dto.WaitlistRequest;
+import com.camping.legacy.dto.WaitlistResponse;
+import com.camping.legacy.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<?> joinWaitlist(@RequestBody WaitlistRequest request) {
+        try {
+            WaitlistResponse response = waitlistService.join(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getWaitlistEntry(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(waitlistService.getEntry(id));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> leaveWaitlist(@PathVariable Long id) {
+        try {
+            waitlistService.leave(id);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "대기가 취소되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.camping.legacy.domain;
 
+import com.camping.legacy.service.CampsiteChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "campsites")
+@EntityListeners(CampsiteChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +28,23 @@ public class Campsite {
     private String description;
     
     private Integer maxPeople;
+
+    /**
+     * 사이트 종류 (대형/소형), 저장 시 비어 있으면 사이트 번호로 채움
+     */
+    @Enumerated(EnumType.STRING)
+    private SiteClass siteClass;
+
+    private Boolean hasElectricity;
+
+    /**
+     * 구역 (사이트 번호의 '-' 앞부분, 예: A)
+     */
+    private String zone;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
     
     @OneToMany(mappedBy = "campsite", cascade = CascadeType.ALL)
     private List<Reservation> reservations = new ArrayList<>();
@@ -34,4 +54,24 @@ public class Campsite {
         this.description = description;
         this.maxPeople = maxPeople;
     }
+
+    /**
+     * 사이트 크기 표시명 (대형/소형, 종류가 없으면 일반)
+     */
+    public String getSizeLabel() {
+        return siteClass != null ? siteClass.getLabel() : "일반";
+    }
+
+    @PrePersist
+    public void fillDerivedAttributes() {
+        if (siteClass == null) {
+            siteClass = SiteClass.ofSiteNumber(siteNumber).orElse(null);
+        }
+        if (zone == null && siteNumber != null) {
+            zone = siteNumber.contains("-") ? siteNumber.substring(0, siteNumber.indexOf('-')) : siteNumber;
+        }
+        if (hasElectricity == null) {
+            hasElectricity = true;
+        }
+    }
 }
\ No newline at end of file
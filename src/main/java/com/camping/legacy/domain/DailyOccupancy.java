@@ -0,0 +1,55 @@
+package com.camping.legacy.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 점유 집계 (날짜 × 사이트 종류)
+ * - 확정 예약 생성/취소/변경과 같은 트랜잭션에서 증감 → 통계는 예약 전체가 아니라 날짜 수만큼만 읽음
+ * - 어긋나면 DailyOccupancyRebuilder로 reservation_nights에서 다시 계산
+ */
+@Entity
+@Table(name = "daily_occupancy",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_occupancy_date_class",
+                columnNames = {"occupancy_date", "site_class"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class DailyOccupancy {
+
+    /**
+     * 사이트 종류가 없는 사이트의 집계 키
+     */
+    public static final String NO_CLASS = "NONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occupancy_date", nullable = false)
+    private LocalDate occupancyDate;
+
+    @Column(name = "site_class", nullable = false)
+    private String siteClass;
+
+    /**
+     * 그 날 확정 예약으로 점유된 사이트 수
+     */
+    @Column(name = "occupied_sites", nullable = false)
+    private int occupiedSites;
+
+    /**
+     * 그 날 시작하는 확정 예약 수
+     */
+    @Column(nullable = false)
+    private int arrivals;
+
+    public static String keyOf(SiteClass siteClass) {
+        return siteClass != null ? siteClass.name() : NO_CLASS;
+    }
+}
@@ -0,0 +1,35 @@
+package com.camping.legacy.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 기록 (Idempotency-Key 헤더)
+ * - 같은 키로 다시 들어온 예약 요청에 처음 응답을 그대로 돌려주기 위해 저장
+ * - requestFingerprint로 같은 키에 다른 요청이 실리는 것을 막음
+ * - 예약 전에 응답 없이 INSERT로 키를 선점하고, 예약이 끝나면 응답을 채움 (responseBody가 null이면 처리 중)
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 500)
+    private String requestFingerprint;
+
+    @Column(length = 2000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
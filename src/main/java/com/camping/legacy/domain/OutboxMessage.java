@@ -0,0 +1,50 @@
+package com.camping.legacy.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ * - 예약 트랜잭션 안에서 발송할 알림을 행으로 기록
+ * - 실제 발송은 커밋 이후 NotificationDispatcher가 묶음 단위로 처리
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String type;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    private String recipientName;
+
+    private String phoneNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+}
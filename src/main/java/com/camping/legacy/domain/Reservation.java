@@ -4,12 +4,24 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservations_confirmation_code",
+                columnNames = "confirmation_code"),
+        indexes = {
+                @Index(name = "idx_reservations_campsite_status_period",
+                        columnList = "campsite_id, status, start_date, end_date"),
+                @Index(name = "idx_reservations_status_period",
+                        columnList = "status, start_date, end_date"),
+                @Index(name = "idx_reservations_start_date_status",
+                        columnList = "start_date, status")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,11 +49,22 @@ public class Reservation {
     private String phoneNumber;
     
     private String status;
+
+    /**
+     * 예약 시점 금액 / 적립 포인트 (리포트는 다시 계산하지 않고 이 값을 집계)
+     */
+    private Integer totalPrice;
+
+    private Integer earnedPoints;
     
     @Column(length = 6)
     private String confirmationCode;
     
     private LocalDateTime createdAt;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
     
     @PrePersist
     protected void onCreate() {
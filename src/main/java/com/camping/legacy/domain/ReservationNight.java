@@ -0,0 +1,38 @@
+package com.camping.legacy.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 박(night) 원장
+ * - 예약 1건의 기간을 날짜별 행으로 펼쳐 저장
+ * - (campsite_id, night) 유니크 제약으로 DB가 중복 예약을 직접 막음
+ */
+@Entity
+@Table(name = "reservation_nights",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_nights_campsite_night",
+                columnNames = {"campsite_id", "night"}),
+        indexes = @Index(name = "idx_reservation_nights_reservation", columnList = "reservation_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationNight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campsite_id", nullable = false)
+    private Long campsiteId;
+
+    @Column(nullable = false)
+    private LocalDate night;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+}
@@ -0,0 +1,44 @@
+package com.camping.legacy.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 사이트 종류 (사이트 번호 앞 글자로 구분)
+ * A: 대형, B: 소형
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SiteClass {
+
+    LARGE("A", "대형"),
+    SMALL("B", "소형");
+
+    private final String prefix;
+    private final String label;
+
+    public static Optional<SiteClass> ofSiteNumber(String siteNumber) {
+        if (siteNumber == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(siteClass -> siteNumber.startsWith(siteClass.prefix))
+                .findFirst();
+    }
+
+    /**
+     * "대형" / "large" / "LARGE" 모두 허용
+     */
+    public static Optional<SiteClass> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String trimmed = name.trim();
+        return Arrays.stream(values())
+                .filter(siteClass -> siteClass.label.equals(trimmed) || siteClass.name().equalsIgnoreCase(trimmed))
+                .findFirst();
+    }
+}
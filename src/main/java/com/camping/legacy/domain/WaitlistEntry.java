@@ -0,0 +1,72 @@
+package com.camping.legacy.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 대기 (특정 사이트 또는 사이트 종류 + 기간)
+ * 기간이 비면 등록 순서대로 홀드를 배정(OFFERED)하고, 배정된 홀드가 확정 없이 풀리면 EXPIRED로 바꾼다.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        indexes = {
+                @Index(name = "idx_waitlist_entries_status", columnList = "status, id"),
+                @Index(name = "idx_waitlist_entries_hold_id", columnList = "hold_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 특정 사이트 대기 (siteClass와 둘 중 하나)
+     */
+    private String siteNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private SiteClass siteClass;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    private String phoneNumber;
+
+    /**
+     * WAITING / OFFERED / CANCELLED / EXPIRED
+     */
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    private String offeredSiteNumber;
+
+    private String holdId;
+
+    private LocalDateTime holdExpiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.status == null) {
+            this.status = "WAITING";
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 가능 여부 변경분 (SSE 이벤트 본문)
+ * change: BOOKED(예약됨) / RELEASED(예약 가능해짐) / RESET(놓친 변경이 있어 전체를 다시 조회해야 함)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDelta {
+
+    public static final String RESET = "RESET";
+
+    private long id;
+    private String siteNumber;
+    private String change;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
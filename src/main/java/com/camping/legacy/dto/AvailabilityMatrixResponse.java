@@ -0,0 +1,32 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사이트 × 날짜 예약 가능 여부
+ * 사이트마다 from부터 하루씩 한 글자 ('1' = 예약 가능, '0' = 예약/홀드됨)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityMatrixResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<Row> sites;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        private String siteNumber;
+        private String size;
+        private String availability;
+    }
+}
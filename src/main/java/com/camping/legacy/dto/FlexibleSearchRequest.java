@@ -0,0 +1,29 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 유연한 날짜 검색 조건
+ * earliestStart ~ latestEnd 안에서 nights박 연속으로 빈 (사이트, 시작일)을 찾는다.
+ * nights는 예약과 같은 기준(종료일 - 시작일)이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlexibleSearchRequest {
+    private LocalDate earliestStart;
+    private LocalDate latestEnd;
+    private Integer nights;
+    private String size;
+
+    /**
+     * 허용 시작 요일 (비어 있으면 모든 요일)
+     */
+    private Set<DayOfWeek> startDays;
+}
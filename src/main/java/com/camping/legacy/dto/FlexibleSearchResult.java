@@ -0,0 +1,17 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlexibleSearchResult {
+    private String siteNumber;
+    private String size;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
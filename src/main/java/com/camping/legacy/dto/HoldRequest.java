@@ -0,0 +1,19 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldRequest {
+
+    private String siteNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,20 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldResponse {
+
+    private String holdId;
+    private String siteNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime expiresAt;
+}
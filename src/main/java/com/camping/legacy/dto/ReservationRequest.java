@@ -21,4 +21,14 @@ public class ReservationRequest {
     private Integer numberOfPeople;
     private String carNumber;
     private String requests;
+
+    /**
+     * 사이트 종류 ("대형"/"소형"), siteNumber 없이 보내면 해당 종류의 빈 사이트를 자동 배정
+     */
+    private String siteClass;
+
+    public ReservationRequest(String customerName, LocalDate startDate, LocalDate endDate, String siteNumber,
+                              String phoneNumber, Integer numberOfPeople, String carNumber, String requests) {
+        this(customerName, startDate, endDate, siteNumber, phoneNumber, numberOfPeople, carNumber, requests, null);
+    }
 }
\ No newline at end of file
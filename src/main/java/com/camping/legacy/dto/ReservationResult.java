@@ -0,0 +1,26 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 건을 한 번에 처리할 때의 요청별 예약 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResult {
+    private String siteNumber;
+    private boolean success;
+    private ReservationResponse reservation;
+    private String message;
+
+    public static ReservationResult success(ReservationResponse reservation) {
+        return new ReservationResult(reservation.getSiteNumber(), true, reservation, null);
+    }
+
+    public static ReservationResult failure(String siteNumber, String message) {
+        return new ReservationResult(siteNumber, false, null, message);
+    }
+}
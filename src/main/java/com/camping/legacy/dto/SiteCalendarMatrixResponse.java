@@ -0,0 +1,35 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 사이트 월별 예약 캘린더 (사이트당 한 줄)
+ * reservationIds[i] = 그 달 (i + 1)일을 점유한 확정 예약 ID (null = 예약 가능)
+ * customerNames = 그 줄에 나온 예약 ID별 예약자 이름
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SiteCalendarMatrixResponse {
+
+    private Integer year;
+    private Integer month;
+    private List<Row> sites;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        private Long siteId;
+        private String siteNumber;
+        private List<Long> reservationIds;
+        private Map<Long, String> customerNames;
+        private Map<String, Integer> summary;
+    }
+}
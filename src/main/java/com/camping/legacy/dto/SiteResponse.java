@@ -27,8 +27,8 @@ public class SiteResponse {
                 .siteNumber(campsite.getSiteNumber())
                 .description(campsite.getDescription())
                 .maxPeople(campsite.getMaxPeople())
-                .size(campsite.getSiteNumber().startsWith("A") ? "대형" : "소형")
-                .hasElectricity(true) // 모든 구역은 전기 사용 가능
+                .size(campsite.getSizeLabel())
+                .hasElectricity(campsite.getHasElectricity())
                 .toiletDistance(Integer.parseInt(campsite.getSiteNumber().split("-")[1]) * 10)
                 .facilities("화장실, 샤워장, 개수대")
                 .rules("22시 이후 소음 금지, 직화 금지")
@@ -13,4 +13,15 @@ public class SiteSearchRequest {
     private LocalDate startDate;
     private LocalDate endDate;
     private String size;
-}
\ No newline at end of file
+    private Boolean hasElectricity;
+    private String zone;
+
+    /**
+     * 인원 수 (수용 인원이 이 값 이상인 사이트만)
+     */
+    private Integer maxPeople;
+
+    public SiteSearchRequest(LocalDate startDate, LocalDate endDate, String size) {
+        this(startDate, endDate, size, null, null, null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    /**
+     * 특정 사이트 대기 (siteClass와 둘 중 하나)
+     */
+    private String siteNumber;
+
+    /**
+     * 사이트 종류 대기 ("대형" / "소형")
+     */
+    private String siteClass;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String customerName;
+    private String phoneNumber;
+}
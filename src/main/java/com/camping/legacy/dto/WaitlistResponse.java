@@ -0,0 +1,43 @@
+package com.camping.legacy.dto;
+
+import com.camping.legacy.domain.WaitlistEntry;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistResponse {
+
+    private Long id;
+    private String siteNumber;
+    private String siteClass;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String customerName;
+    private String status;
+    private String offeredSiteNumber;
+    private String holdId;
+    private LocalDateTime holdExpiresAt;
+    private LocalDateTime createdAt;
+
+    public static WaitlistResponse from(WaitlistEntry entry) {
+        WaitlistResponse response = new WaitlistResponse();
+        response.setId(entry.getId());
+        response.setSiteNumber(entry.getSiteNumber());
+        response.setSiteClass(entry.getSiteClass() == null ? null : entry.getSiteClass().getLabel());
+        response.setStartDate(entry.getStartDate());
+        response.setEndDate(entry.getEndDate());
+        response.setCustomerName(entry.getCustomerName());
+        response.setStatus(entry.getStatus());
+        response.setOfferedSiteNumber(entry.getOfferedSiteNumber());
+        response.setHoldId(entry.getHoldId());
+        response.setHoldExpiresAt(entry.getHoldExpiresAt());
+        response.setCreatedAt(entry.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,19 @@
+package com.camping.legacy.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 표시용 예약 프로젝션 (엔티티/사이트 로딩 없이 표시에 필요한 값만 조회)
+ */
+public interface CalendarReservation {
+
+    Long getId();
+
+    Long getCampsiteId();
+
+    String getCustomerName();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
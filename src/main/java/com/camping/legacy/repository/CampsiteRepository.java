@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +20,18 @@ public interface CampsiteRepository extends JpaRepository<Campsite, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Campsite c WHERE c.siteNumber = :siteNumber")
     Optional<Campsite> findBySiteNumberWithLock(@Param("siteNumber") String siteNumber);
+
+    /**
+     * 여러 사이트를 사이트 번호 순서로 잠금 (잠금 순서를 고정해 교착 상태 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Campsite c WHERE c.siteNumber IN :siteNumbers ORDER BY c.siteNumber")
+    List<Campsite> findAllBySiteNumberInWithLock(@Param("siteNumbers") Collection<String> siteNumbers);
+
+    /**
+     * 잠금 없이 조회하고 커밋 시 버전을 올림 (동시 변경 시 OptimisticLockException)
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Campsite c WHERE c.siteNumber = :siteNumber")
+    Optional<Campsite> findBySiteNumberWithVersionBump(@Param("siteNumber") String siteNumber);
 }
\ No newline at end of file
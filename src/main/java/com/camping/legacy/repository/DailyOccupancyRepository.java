@@ -0,0 +1,154 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.DailyOccupancy;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일별 점유 집계 저장소 (daily_occupancy)
+ *
+ * 예약 변경분을 (날짜, 사이트 종류)별 증감으로 모은 뒤 행마다 MERGE로 반영한다.
+ * (첫 행 INSERT가 다른 트랜잭션과 겹치면 그 행만 다시 보내야 하므로 배치로 묶지 않음)
+ * 증감은 날짜/종류 순으로 보내므로 동시에 실행되는 트랜잭션끼리 같은 순서로 행을 잠근다 (교착 방지).
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyOccupancyRepository {
+
+    private static final String MERGE_SQL =
+            "MERGE INTO daily_occupancy d " +
+            "USING (SELECT CAST(? AS DATE) AS occupancy_date, CAST(? AS VARCHAR) AS site_class, " +
+            "CAST(? AS INT) AS occupied_delta, CAST(? AS INT) AS arrival_delta) s " +
+            "ON d.occupancy_date = s.occupancy_date AND d.site_class = s.site_class " +
+            "WHEN MATCHED THEN UPDATE SET occupied_sites = d.occupied_sites + s.occupied_delta, " +
+            "arrivals = d.arrivals + s.arrival_delta " +
+            "WHEN NOT MATCHED THEN INSERT (occupancy_date, site_class, occupied_sites, arrivals) " +
+            "VALUES (s.occupancy_date, s.site_class, s.occupied_delta, s.arrival_delta)";
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO daily_occupancy (occupancy_date, site_class, occupied_sites, arrivals) " +
+            "SELECT n.night, COALESCE(c.site_class, '" + DailyOccupancy.NO_CLASS + "'), COUNT(*), " +
+            "SUM(CASE WHEN n.night = r.start_date THEN 1 ELSE 0 END) " +
+            "FROM reservation_nights n " +
+            "JOIN reservations r ON r.id = n.reservation_id " +
+            "JOIN campsites c ON c.id = n.campsite_id " +
+            "GROUP BY n.night, COALESCE(c.site_class, '" + DailyOccupancy.NO_CLASS + "')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 확정된 예약의 박을 집계에 더함
+     */
+    public void add(Collection<Reservation> reservations) {
+        Deltas deltas = new Deltas();
+        for (Reservation reservation : reservations) {
+            deltas.add(reservation.getCampsite().getSiteClass(), reservation.getStartDate(), reservation.getEndDate(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * 취소된 예약의 박을 집계에서 뺌
+     */
+    public void remove(Reservation reservation) {
+        Deltas deltas = new Deltas();
+        deltas.add(reservation.getCampsite().getSiteClass(), reservation.getStartDate(), reservation.getEndDate(), -1);
+        apply(deltas);
+    }
+
+    /**
+     * 사이트/기간이 바뀐 예약 (이전 박을 빼고 새 박을 더함, 겹치는 날은 상쇄)
+     */
+    public void move(SiteClass fromClass, LocalDate fromStartDate, LocalDate fromEndDate, Reservation moved) {
+        Deltas deltas = new Deltas();
+        deltas.add(fromClass, fromStartDate, fromEndDate, -1);
+        deltas.add(moved.getCampsite().getSiteClass(), moved.getStartDate(), moved.getEndDate(), 1);
+        apply(deltas);
+    }
+
+    /**
+     * 그 날 점유된 사이트 수 (전체 종류 합)
+     */
+    public int sumOccupiedSites(LocalDate date) {
+        Integer sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(occupied_sites), 0) FROM daily_occupancy WHERE occupancy_date = ?",
+                Integer.class, Date.valueOf(date));
+        return sum != null ? sum : 0;
+    }
+
+    /**
+     * 기간 안에 시작하는 확정 예약 수
+     */
+    public int sumArrivals(LocalDate startDate, LocalDate endDate) {
+        Integer sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(arrivals), 0) FROM daily_occupancy WHERE occupancy_date BETWEEN ? AND ?",
+                Integer.class, Date.valueOf(startDate), Date.valueOf(endDate));
+        return sum != null ? sum : 0;
+    }
+
+    /**
+     * 집계 전체를 예약 박 원장(reservation_nights)에서 다시 계산
+     *
+     * @return 다시 만든 집계 행 수
+     */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM daily_occupancy");
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+
+    private void apply(Deltas deltas) {
+        for (Object[] row : deltas.toRows()) {
+            try {
+                jdbcTemplate.update(MERGE_SQL, row);
+            } catch (DuplicateKeyException e) {
+                // 같은 (날짜, 종류)의 첫 행을 다른 트랜잭션이 먼저 넣은 경우, 다시 보내면 UPDATE로 처리됨
+                jdbcTemplate.update(MERGE_SQL, row);
+            }
+        }
+    }
+
+    private static final class Deltas {
+
+        private final Map<Key, int[]> byKey = new TreeMap<>(
+                Comparator.comparing(Key::date).thenComparing(Key::siteClass));
+
+        void add(SiteClass siteClass, LocalDate startDate, LocalDate endDate, int sign) {
+            String classKey = DailyOccupancy.keyOf(siteClass);
+            LocalDate night = startDate;
+            while (!night.isAfter(endDate)) {
+                int[] delta = byKey.computeIfAbsent(new Key(night, classKey), key -> new int[2]);
+                delta[0] += sign;
+                if (night.equals(startDate)) {
+                    delta[1] += sign;
+                }
+                night = night.plusDays(1);
+            }
+        }
+
+        List<Object[]> toRows() {
+            List<Object[]> rows = new ArrayList<>(byKey.size());
+            byKey.forEach((key, delta) -> {
+                if (delta[0] != 0 || delta[1] != 0) {
+                    rows.add(new Object[]{Date.valueOf(key.date()), key.siteClass(), delta[0], delta[1]});
+                }
+            });
+            return rows;
+        }
+    }
+
+    private record Key(LocalDate date, String siteClass) {
+    }
+}
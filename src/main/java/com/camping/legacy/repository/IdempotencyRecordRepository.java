@@ -0,0 +1,67 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 키 선점 (응답 없이 INSERT, 이미 있으면 DataIntegrityViolationException)
+     * save()는 기존 행을 덮어쓰므로(merge) 선점에는 쓰지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_fingerprint, created_at) " +
+                   "VALUES (:key, :fingerprint, :createdAt)", nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("fingerprint") String fingerprint,
+              @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 선점 유지 시간이 지난 처리 중 키를 같은 요청이 넘겨받음 (created_at을 새 선점 시각으로 갱신)
+     * 동시에 여러 재시도가 와도 한 건만 1을 돌려받는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET created_at = :claimedAt " +
+                   "WHERE idempotency_key = :key AND request_fingerprint = :fingerprint " +
+                   "AND response_body IS NULL AND created_at < :leaseExpiredBefore", nativeQuery = true)
+    int takeOverClaim(@Param("key") String key,
+                      @Param("fingerprint") String fingerprint,
+                      @Param("claimedAt") LocalDateTime claimedAt,
+                      @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore);
+
+    /**
+     * 응답 저장 (선점 시각이 그대로일 때만 - 넘겨받은 선점을 이전 요청이 덮어쓰지 않도록)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET response_body = :responseBody " +
+                   "WHERE idempotency_key = :key AND created_at = :claimedAt AND response_body IS NULL", nativeQuery = true)
+    int complete(@Param("key") String key,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("responseBody") String responseBody);
+
+    /**
+     * 예약이 만들어지지 않은 선점 해제 (같은 키로 다시 시도 가능)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys " +
+                   "WHERE idempotency_key = :key AND created_at = :claimedAt AND response_body IS NULL", nativeQuery = true)
+    int releaseClaim(@Param("key") String key, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys " +
+                   "WHERE idempotency_key = :key AND created_at < :before", nativeQuery = true)
+    int deleteExpired(@Param("key") String key, @Param("before") LocalDateTime before);
+}
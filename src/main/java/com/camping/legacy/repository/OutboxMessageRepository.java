@@ -0,0 +1,68 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.service.NotificationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 저장소
+ * 기록은 호출한 트랜잭션에 참여하고, 조회/상태 변경은 발송 스레드에서 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxMessageRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_outbox (type, reservation_id, recipient_name, phone_number, content, " +
+            "status, attempts, created_at) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<NotificationMessage> messages) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = messages.stream()
+                .map(message -> new Object[]{message.type(), message.reservationId(), message.recipientName(),
+                        message.phoneNumber(), message.content(), now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * 발송 대기 중인 알림을 기록 순서대로 조회
+     */
+    public List<NotificationMessage> findPending(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, type, reservation_id, recipient_name, phone_number, content " +
+                "FROM notification_outbox WHERE status = 'PENDING' ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new NotificationMessage(
+                        rs.getLong("id"),
+                        rs.getString("type"),
+                        rs.getObject("reservation_id", Long.class),
+                        rs.getString("recipient_name"),
+                        rs.getString("phone_number"),
+                        rs.getString("content")),
+                limit);
+    }
+
+    public void markSent(List<Long> ids) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE notification_outbox SET status = 'SENT', attempts = attempts + 1, sent_at = ? WHERE id = ?",
+                ids.stream().map(id -> new Object[]{now, id}).toList());
+    }
+
+    /**
+     * 시도 횟수를 올리고, 최대 횟수에 도달한 알림은 FAILED로 변경
+     */
+    public void markFailed(List<Long> ids, int maxAttempts) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE notification_outbox SET attempts = attempts + 1, " +
+                "status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END WHERE id = ?",
+                ids.stream().map(id -> new Object[]{maxAttempts, id}).toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 일괄 저장소 (단체 예약)
+ * JPA save를 건별로 호출하지 않고 INSERT를 JDBC 배치 한 번으로 보낸 뒤
+ * 생성된 키를 엔티티에 채워 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, " +
+            "phone_number, status, confirmation_code, created_at, total_price, earned_points, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약 일괄 저장 후 id / 상태 / 생성 시각 / 버전을 엔티티에 반영
+     */
+    public void insertAll(List<Reservation> reservations) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Reservation reservation : reservations) {
+            reservation.setCreatedAt(now);
+            if (reservation.getStatus() == null) {
+                reservation.setStatus("CONFIRMED");
+            }
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Reservation reservation = reservations.get(i);
+                        ps.setString(1, reservation.getCustomerName());
+                        ps.setDate(2, Date.valueOf(reservation.getStartDate()));
+                        ps.setDate(3, Date.valueOf(reservation.getEndDate()));
+                        ps.setDate(4, toDate(reservation.getReservationDate()));
+                        ps.setLong(5, reservation.getCampsite().getId());
+                        ps.setString(6, reservation.getPhoneNumber());
+                        ps.setString(7, reservation.getStatus());
+                        ps.setString(8, reservation.getConfirmationCode());
+                        ps.setTimestamp(9, Timestamp.valueOf(reservation.getCreatedAt()));
+                        ps.setObject(10, reservation.getTotalPrice(), Types.INTEGER);
+                        ps.setObject(11, reservation.getEarnedPoints(), Types.INTEGER);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return reservations.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            reservation.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            reservation.setVersion(0L);
+        }
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
@@ -0,0 +1,82 @@
+package com.camping.legacy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 예약 내보내기용 조회 (전진 전용 커서로 한 행씩 읽어 바로 넘김)
+ *
+ * 결과를 리스트로 모으지 않으므로 메모리에는 fetch size 만큼의 행만 올라온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationExportRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT r.id, r.customer_name, r.phone_number, c.site_number, r.start_date, r.end_date, " +
+            "r.status, r.confirmation_code, r.total_price, r.earned_points, r.created_at " +
+            "FROM reservations r JOIN campsites c ON c.id = r.campsite_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시작일이 기간 안에 있는 예약을 id 순으로 하나씩 전달 (기간 미지정 시 전체)
+     */
+    public void forEach(LocalDate from, LocalDate to, int fetchSize, Consumer<ExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+        if (from != null) {
+            sql.append(params.isEmpty() ? " WHERE" : " AND").append(" r.start_date >= ?");
+            params.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(params.isEmpty() ? " WHERE" : " AND").append(" r.start_date <= ?");
+            params.add(Date.valueOf(to));
+        }
+        sql.append(" ORDER BY r.id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+    }
+
+    private ExportRow toRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp(11);
+        return new ExportRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getDate(5).toLocalDate(),
+                rs.getDate(6).toLocalDate(),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getObject(9, Integer.class),
+                rs.getObject(10, Integer.class),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+
+    public record ExportRow(Long id, String customerName, String phoneNumber, String siteNumber,
+                            LocalDate startDate, LocalDate endDate, String status, String confirmationCode,
+                            Integer totalPrice, Integer earnedPoints, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.camping.legacy.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 기간 조회용 프로젝션 (예약 ID 포함)
+ */
+public interface ReservationInterval {
+
+    Long getId();
+
+    Long getCampsiteId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,63 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 박(night) 원장 저장소
+ * 예약 1건의 박을 JDBC 배치 한 번으로 기록한다.
+ * 이미 점유된 박이 있으면 유니크 제약 위반(DataIntegrityViolationException)이 발생한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationNightRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO reservation_nights (campsite_id, night, reservation_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약 기간(시작일~종료일, 양끝 포함)의 박을 기록
+     */
+    public void insertNights(Long reservationId, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        List<Object[]> rows = new ArrayList<>();
+        addNights(rows, reservationId, campsiteId, startDate, endDate);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * 여러 예약의 박을 배치 한 번으로 기록 (단체 예약)
+     */
+    public void insertNights(List<Reservation> reservations) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            addNights(rows, reservation.getId(), reservation.getCampsite().getId(),
+                    reservation.getStartDate(), reservation.getEndDate());
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * 예약에 속한 박을 모두 해제
+     */
+    public void deleteByReservationId(Long reservationId) {
+        jdbcTemplate.update("DELETE FROM reservation_nights WHERE reservation_id = ?", reservationId);
+    }
+
+    private void addNights(List<Object[]> rows, Long reservationId, Long campsiteId,
+                           LocalDate startDate, LocalDate endDate) {
+        LocalDate night = startDate;
+        while (!night.isAfter(endDate)) {
+            rows.add(new Object[]{campsiteId, Date.valueOf(night), reservationId});
+            night = night.plusDays(1);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.camping.legacy.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 기간 조회용 프로젝션 (엔티티 로딩 없이 사이트/기간만 조회)
+ */
+public interface ReservationPeriod {
+
+    Long getCampsiteId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
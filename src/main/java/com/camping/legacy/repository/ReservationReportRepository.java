@@ -0,0 +1,74 @@
+package com.camping.legacy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 리포트용 집계 조회 (엔티티 로딩 없이 GROUP BY로 계산)
+ *
+ * 금액은 예약 시점에 저장된 total_price를 합산한다.
+ * 금액이 저장되기 전에 만들어진 예약만 따로 조회해 호출 측에서 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationReportRepository {
+
+    private static final String MONTHLY_SUMMARY_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(total_price), 0), " +
+            "COALESCE(SUM(DATEDIFF('DAY', start_date, end_date)), 0), " +
+            "SUM(CASE WHEN total_price IS NULL THEN 1 ELSE 0 END) " +
+            "FROM reservations WHERE status = ? AND start_date BETWEEN ? AND ?";
+
+    private static final String UNPRICED_SQL =
+            "SELECT r.start_date, r.end_date, c.site_number " +
+            "FROM reservations r JOIN campsites c ON c.id = r.campsite_id " +
+            "WHERE r.status = ? AND r.start_date BETWEEN ? AND ? AND r.total_price IS NULL";
+
+    private static final String CANCELLATION_SQL =
+            "SELECT COUNT(*), " +
+            "COALESCE(SUM(CASE WHEN status IN ('CANCELLED', 'CANCELLED_SAME_DAY') THEN 1 ELSE 0 END), 0) " +
+            "FROM reservations";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 시작하는 예약(지정 상태)의 건수 / 저장된 금액 합계 / 박수 합계
+     */
+    public MonthlySummary summarize(String status, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(MONTHLY_SUMMARY_SQL,
+                (rs, rowNum) -> new MonthlySummary(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+                status, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 금액이 저장되지 않은 예약 (기능 도입 이전 데이터)
+     */
+    public List<UnpricedReservation> findUnpriced(String status, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(UNPRICED_SQL,
+                (rs, rowNum) -> new UnpricedReservation(
+                        rs.getDate(1).toLocalDate(), rs.getDate(2).toLocalDate(), rs.getString(3)),
+                status, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 전체 예약 건수 / 취소 건수
+     */
+    public CancellationSummary summarizeCancellations() {
+        return jdbcTemplate.queryForObject(CANCELLATION_SQL,
+                (rs, rowNum) -> new CancellationSummary(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public record MonthlySummary(long reservationCount, long pricedRevenue, long totalNights, long unpricedCount) {
+    }
+
+    public record UnpricedReservation(LocalDate startDate, LocalDate endDate, String siteNumber) {
+    }
+
+    public record CancellationSummary(long totalCount, long cancelledCount) {
+    }
+}
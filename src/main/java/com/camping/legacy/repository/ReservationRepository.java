@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,17 +21,52 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     Optional<Reservation> findByCampsiteIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long campsiteId, LocalDate endDate, LocalDate startDate);
 
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Reservation r " +
-           "WHERE r.campsite = :campsite " +
+    @Query("SELECT r.campsite.id AS campsiteId, r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM Reservation r WHERE r.status = :status")
+    List<ReservationPeriod> findPeriodsByStatus(@Param("status") String status);
+
+    @Query("SELECT r.id AS id, r.campsite.id AS campsiteId, r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM Reservation r WHERE r.status = :status")
+    List<ReservationInterval> findIntervalsByStatus(@Param("status") String status);
+
+    @Query("SELECT r.campsite.id AS campsiteId, r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM Reservation r " +
+           "WHERE r.campsite.id IN :campsiteIds " +
            "AND r.startDate <= :endDate " +
            "AND r.endDate >= :startDate " +
            "AND r.status = :status")
-    boolean hasOverlappingReservation(
-            @Param("campsite") Campsite campsite,
+    List<ReservationPeriod> findPeriodsOverlapping(
+            @Param("campsiteIds") Collection<Long> campsiteIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") String status);
+
+    @Query("SELECT r.id AS id, r.campsite.id AS campsiteId, r.customerName AS customerName, " +
+           "r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM Reservation r " +
+           "WHERE r.campsite.id = :campsiteId " +
+           "AND r.status = :status " +
+           "AND r.startDate <= :endDate " +
+           "AND r.endDate >= :startDate")
+    List<CalendarReservation> findCalendarReservations(
+            @Param("campsiteId") Long campsiteId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("status") String status);
 
+    @Query("SELECT r.id AS id, r.campsite.id AS campsiteId, r.customerName AS customerName, " +
+           "r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM Reservation r " +
+           "WHERE r.status = :status " +
+           "AND r.startDate <= :endDate " +
+           "AND r.endDate >= :startDate")
+    List<CalendarReservation> findCalendarReservations(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") String status);
+
+    Optional<Reservation> findByConfirmationCode(String confirmationCode);
+
     List<Reservation> findByCustomerName(String customerName);
 
     List<Reservation> findByCustomerNameAndPhoneNumber(String customerName, String phoneNumber);
@@ -0,0 +1,105 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.CacheProperties;
+import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.dto.SiteAvailabilityResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 빈 사이트 검색 / 월별 캘린더 조회 결과 캐시
+ *
+ * - 검색: (기간, 조건) 키, 캘린더: (사이트, 월) 키, 각각 크기 제한 LRU
+ * - 예약 생성/취소/변경/홀드가 커밋되면 바뀐 사이트/기간과 겹치는 항목만 제거
+ * - 커밋 전 선점이 롤백되면 OccupancyIndex가 겹치는 검색 항목을 제거
+ * - 무효화는 커밋한 요청이 응답하기 전에 끝나므로, 그 뒤의 조회는 항상 새 데이터를 본다
+ */
+@Component
+public class AvailabilityCache {
+
+    private final LruCache<SearchKey, List<SiteAvailabilityResponse>> searches;
+    private final LruCache<CalendarKey, CalendarResponse> calendars;
+
+    public AvailabilityCache(CacheProperties cacheProperties) {
+        this.searches = new LruCache<>(cacheProperties.getSearchMaxEntries());
+        this.calendars = new LruCache<>(cacheProperties.getCalendarMaxEntries());
+    }
+
+    public List<SiteAvailabilityResponse> getAvailableSites(LocalDate startDate, LocalDate endDate, SiteQuery query,
+                                                            Supplier<List<SiteAvailabilityResponse>> loader) {
+        return searches.get(new SearchKey(startDate, endDate, query), () -> List.copyOf(loader.get()));
+    }
+
+    public CalendarResponse getMonthlyCalendar(Long siteId, YearMonth month, Supplier<CalendarResponse> loader) {
+        return calendars.get(new CalendarKey(siteId, month), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        invalidateSearches(event.startDate(), event.endDate());
+        evictCalendars(event.campsiteId(), event.startDate(), event.endDate());
+    }
+
+    /**
+     * 검색 결과만 무효화 (커밋되지 않은 선점이 롤백된 경우, 캘린더는 커밋된 예약만 보므로 유지)
+     */
+    public void invalidateSearches(LocalDate startDate, LocalDate endDate) {
+        searches.invalidateIf(key -> key.overlaps(startDate, endDate));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationDetailsChanged(ReservationDetailsChangedEvent event) {
+        evictCalendars(event.campsiteId(), event.startDate(), event.endDate());
+    }
+
+    /**
+     * 전체 비우기 (사이트 정보 변경, 점유 비트맵 재구성 시)
+     */
+    public void clear() {
+        searches.clear();
+        calendars.clear();
+    }
+
+    /**
+     * 캐시 통계 (적중/실패/LRU 제거/무효화 수)
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        putStatistics(statistics, "search", searches);
+        putStatistics(statistics, "calendar", calendars);
+        return statistics;
+    }
+
+    private void evictCalendars(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate);
+        calendars.invalidateIf(key -> key.siteId().equals(campsiteId)
+                && !key.month().isBefore(first) && !key.month().isAfter(last));
+    }
+
+    private static void putStatistics(Map<String, Long> statistics, String name, LruCache<?, ?> cache) {
+        statistics.put(name + "CacheHits", cache.hits());
+        statistics.put(name + "CacheMisses", cache.misses());
+        statistics.put(name + "CacheEvictions", cache.evictions());
+        statistics.put(name + "CacheInvalidations", cache.invalidations());
+        statistics.put(name + "CacheSize", (long) cache.size());
+    }
+
+    private record SearchKey(LocalDate startDate, LocalDate endDate, SiteQuery query) {
+
+        boolean overlaps(LocalDate otherStart, LocalDate otherEnd) {
+            return !startDate.isAfter(otherEnd) && !endDate.isBefore(otherStart);
+        }
+    }
+
+    private record CalendarKey(Long siteId, YearMonth month) {
+    }
+}
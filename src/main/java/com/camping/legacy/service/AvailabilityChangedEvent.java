@@ -0,0 +1,21 @@
+package com.camping.legacy.service;
+
+import java.time.LocalDate;
+
+/**
+ * 사이트 점유 변경 (예약 생성/취소/변경, 커밋 후 실시간 스트림으로 전달)
+ */
+public record AvailabilityChangedEvent(Long campsiteId, String siteNumber, String change,
+                                       LocalDate startDate, LocalDate endDate) {
+
+    public static final String BOOKED = "BOOKED";
+    public static final String RELEASED = "RELEASED";
+
+    public static AvailabilityChangedEvent booked(Long campsiteId, String siteNumber, LocalDate startDate, LocalDate endDate) {
+        return new AvailabilityChangedEvent(campsiteId, siteNumber, BOOKED, startDate, endDate);
+    }
+
+    public static AvailabilityChangedEvent released(Long campsiteId, String siteNumber, LocalDate startDate, LocalDate endDate) {
+        return new AvailabilityChangedEvent(campsiteId, siteNumber, RELEASED, startDate, endDate);
+    }
+}
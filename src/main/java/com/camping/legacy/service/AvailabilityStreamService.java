@@ -0,0 +1,223 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.StreamProperties;
+import com.camping.legacy.dto.AvailabilityDelta;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사이트별 예약 가능 여부 실시간 스트림 (SSE)
+ *
+ * - 예약 생성/취소/변경이 커밋되면 변경분(delta)에 전역 순번을 붙여 해당 사이트 구독자에게 전달
+ * - 예약 스레드는 구독자별 큐에 넣기만 하고, 실제 전송은 전용 스레드가 처리 → 느린 구독자가 예약을 막지 않음
+ * - 구독자 큐가 가득 차면 연결을 끊는다 (브라우저가 Last-Event-ID로 재접속해 놓친 변경분을 받음)
+ * - 사이트별 최근 변경분을 보관해 재접속 시 Last-Event-ID 이후만 다시 보냄
+ *   보관 범위를 벗어난 경우 RESET을 보내 전체를 다시 조회하게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityStreamService {
+
+    private static final String EVENT_NAME = "availability";
+
+    private final StreamProperties streamProperties;
+    private final CampsiteCatalog campsiteCatalog;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, SiteChannel> channels = new ConcurrentHashMap<>();
+    private ExecutorService fanout;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        fanout = Executors.newFixedThreadPool(Math.max(1, streamProperties.getFanoutThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "availability-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        fanout.shutdownNow();
+        channels.values().forEach(SiteChannel::closeAll);
+    }
+
+    /**
+     * 사이트 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재접속 시), 그 이후 변경분부터 보냄
+     */
+    public SseEmitter subscribe(String siteNumber, Long lastEventId) {
+        campsiteCatalog.findBySiteNumber(siteNumber)
+                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다: " + siteNumber));
+
+        SseEmitter emitter = new SseEmitter(streamProperties.getEmitterTimeoutMillis());
+        Subscriber subscriber = new Subscriber(emitter, streamProperties.getSubscriberBufferSize());
+        SiteChannel channel = channel(siteNumber);
+        emitter.onCompletion(() -> channel.remove(subscriber));
+        emitter.onTimeout(() -> channel.remove(subscriber));
+        emitter.onError(error -> channel.remove(subscriber));
+
+        channel.add(subscriber, lastEventId);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 커밋된 점유 변경을 구독자 큐에 전달 (전송은 전용 스레드)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        SiteChannel channel = channel(event.siteNumber());
+        List<Subscriber> subscribers = channel.publish(event);
+        subscribers.forEach(this::schedule);
+    }
+
+    /**
+     * Last-Event-ID 이후 변경분 (보관 범위를 벗어났으면 RESET 하나)
+     */
+    List<AvailabilityDelta> replaySince(String siteNumber, long lastEventId) {
+        return channel(siteNumber).replaySince(lastEventId);
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(SiteChannel::subscriberCount).sum();
+    }
+
+    private SiteChannel channel(String siteNumber) {
+        return channels.computeIfAbsent(siteNumber, SiteChannel::new);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            fanout.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            AvailabilityDelta delta;
+            while ((delta = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(delta.getId()))
+                        .name(EVENT_NAME)
+                        .data(delta));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("구독자 전송 실패, 연결 종료: {}", e.getMessage());
+            subscriber.emitter.complete();
+        } finally {
+            subscriber.draining.set(false);
+        }
+        schedule(subscriber);
+    }
+
+    /**
+     * 사이트 한 곳의 구독자 목록 + 최근 변경분
+     * 변경분 기록과 구독자 등록을 같은 잠금 안에서 처리해 재생/실시간 사이에 빠지거나 겹치는 이벤트가 없도록 한다.
+     */
+    private final class SiteChannel {
+
+        private final String siteNumber;
+        private final Deque<AvailabilityDelta> recent = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private long evictedUpTo;
+
+        private SiteChannel(String siteNumber) {
+            this.siteNumber = siteNumber;
+        }
+
+        synchronized void add(Subscriber subscriber, Long lastEventId) {
+            if (lastEventId != null) {
+                replaySince(lastEventId).forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        }
+
+        synchronized void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        synchronized List<Subscriber> publish(AvailabilityChangedEvent event) {
+            AvailabilityDelta delta = new AvailabilityDelta(sequence.incrementAndGet(), siteNumber,
+                    event.change(), event.startDate(), event.endDate());
+            recent.addLast(delta);
+            while (recent.size() > streamProperties.getReplayBufferSize()) {
+                evictedUpTo = recent.removeFirst().getId();
+            }
+
+            List<Subscriber> delivered = new ArrayList<>(subscribers.size());
+            for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+                if (subscriber.offer(delta)) {
+                    delivered.add(subscriber);
+                } else {
+                    // 큐가 넘친 느린 구독자는 끊고, 재접속 시 보관분에서 다시 받게 함
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.complete();
+                }
+            }
+            return delivered;
+        }
+
+        synchronized List<AvailabilityDelta> replaySince(long lastEventId) {
+            if (lastEventId < evictedUpTo) {
+                return List.of(new AvailabilityDelta(sequence.get(), siteNumber, AvailabilityDelta.RESET, null, null));
+            }
+            List<AvailabilityDelta> missed = new ArrayList<>();
+            for (AvailabilityDelta delta : recent) {
+                if (delta.getId() > lastEventId) {
+                    missed.add(delta);
+                }
+            }
+            return missed;
+        }
+
+        synchronized int subscriberCount() {
+            return subscribers.size();
+        }
+
+        synchronized void closeAll() {
+            subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            subscribers.clear();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<AvailabilityDelta> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        }
+
+        boolean offer(AvailabilityDelta delta) {
+            return queue.offer(delta);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.BookingProperties;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 작성자(single-writer) 예약 파이프라인 (PIPELINE 모드)
+ *
+ * - 예약 요청을 사이트 번호 기준 파티션 큐에 적재
+ * - 파티션마다 동시에 하나의 작업자만 큐를 비우므로 같은 사이트에 대한 잠금 대기가 없음
+ * - 큐에 쌓인 요청을 최대 maxBatchSize건씩 하나의 트랜잭션으로 커밋 (그룹 커밋)
+ * - 그룹 커밋이 실패하면 해당 묶음은 요청별 트랜잭션으로 다시 처리 (대기 시간이 지난 요청은 재처리하지 않고 실패)
+ * - 그룹 커밋/요청별 재처리 트랜잭션은 commit-timeout-seconds 시간 제한으로 실행
+ * - 대기 시간이 초과되면 아직 처리 전인 요청은 취소(작업자가 건너뜀), 이미 처리 중이면 트랜잭션 시간 제한까지 결과를 기다림
+ *   → 실패로 응답한 요청이 나중에 커밋되는 일이 없음
+ *   → 요청 스레드의 최대 대기 시간 = timeout-millis + commit-timeout-seconds + 1초
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingPipeline {
+
+    private static final int QUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    /**
+     * 트랜잭션 시간 제한 이후 롤백/결과 전달까지의 여유
+     */
+    private static final long COMPLETION_GRACE_MILLIS = 1000;
+
+    private final ReservationService reservationService;
+    private final BookingRetryExecutor bookingRetryExecutor;
+    private final BookingProperties bookingProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong groupCommitCount = new AtomicLong();
+    private final AtomicLong bookingCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    private Partition[] partitions;
+    private ExecutorService workers;
+    private TransactionTemplate commitTransaction;
+
+    @PostConstruct
+    void start() {
+        BookingProperties.Pipeline pipeline = bookingProperties.getPipeline();
+        partitions = new Partition[Math.max(1, pipeline.getPartitions())];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+        commitTransaction = new TransactionTemplate(transactionManager);
+        commitTransaction.setTimeout(pipeline.getCommitTimeoutSeconds());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, pipeline.getWorkerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "booking-pipeline-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdown();
+    }
+
+    /**
+     * 예약 요청을 큐에 넣고 처리 결과를 기다림
+     * 실패 시 ReservationService와 동일한 메시지의 RuntimeException을 던진다.
+     * 대기 시간(timeout-millis) 초과 시 처리 전이면 요청을 취소하고 실패,
+     * 처리 중이면 트랜잭션 시간 제한(commit-timeout-seconds) + 1초까지 결과를 더 기다린다.
+     * 그래도 결과가 없으면(트랜잭션 밖에서 멈춘 경우) 결과 미확인으로 실패한다.
+     */
+    public ReservationResponse submitAndWait(ReservationRequest request) {
+        BookingProperties.Pipeline pipeline = bookingProperties.getPipeline();
+        PendingBooking pending = submit(request, pipeline.getTimeoutMillis());
+        try {
+            try {
+                return pending.future().get(pipeline.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.cancel()) {
+                    throw new RuntimeException("예약 처리 대기 시간이 초과되었습니다.");
+                }
+            }
+            // 작업자가 이미 커밋을 시작함 → 실패로 응답하면 예약만 남으므로 트랜잭션 시간 제한까지 결과를 기다림
+            try {
+                return pending.future().get(
+                        TimeUnit.SECONDS.toMillis(pipeline.getCommitTimeoutSeconds()) + COMPLETION_GRACE_MILLIS,
+                        TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.error("예약 파이프라인 처리 결과 미확인: 사이트={}", request.getSiteNumber());
+                throw new RuntimeException("예약 처리 결과를 확인하지 못했습니다. 예약 내역을 조회해 확인해주세요.");
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("예약 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("예약 처리가 중단되었습니다.");
+        }
+    }
+
+    private PendingBooking submit(ReservationRequest request, long timeoutMillis) {
+        PendingBooking pending = new PendingBooking(request, new CompletableFuture<>(), new AtomicInteger(QUEUED),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        Partition partition = partitionOf(request);
+        partition.queue.add(pending);
+        schedule(partition);
+        return pending;
+    }
+
+    /**
+     * 파이프라인 통계
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put("groupCommits", groupCommitCount.get());
+        statistics.put("pipelinedBookings", bookingCount.get());
+        statistics.put("groupCommitFallbacks", fallbackCount.get());
+        return statistics;
+    }
+
+    /**
+     * 사이트 종류로 자동 배정하는 요청은 종류별로 묶어 같은 파티션에서 처리
+     */
+    private Partition partitionOf(ReservationRequest request) {
+        String siteNumber = request.getSiteNumber();
+        String key = siteNumber != null && !siteNumber.trim().isEmpty() ? siteNumber.trim()
+                : "CLASS:" + request.getSiteClass();
+        return partitions[Math.floorMod(key.hashCode(), partitions.length)];
+    }
+
+    private void schedule(Partition partition) {
+        if (partition.draining.compareAndSet(false, true)) {
+            workers.execute(() -> drain(partition));
+        }
+    }
+
+    /**
+     * 한 묶음만 처리하고 작업자를 반납 (다른 파티션이 굶지 않도록)
+     */
+    private void drain(Partition partition) {
+        List<PendingBooking> batch = new ArrayList<>();
+        try {
+            int maxBatchSize = Math.max(1, bookingProperties.getPipeline().getMaxBatchSize());
+            PendingBooking next;
+            while (batch.size() < maxBatchSize && (next = partition.queue.poll()) != null) {
+                // 대기 시간이 지나 취소된 요청은 건너뜀
+                if (next.start()) {
+                    batch.add(next);
+                }
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 파이프라인 처리 중 오류", e);
+            // 처리를 시작한 요청은 결과를 기다리므로 반드시 완료시킴
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        } finally {
+            partition.draining.set(false);
+            if (!partition.queue.isEmpty()) {
+                schedule(partition);
+            }
+        }
+    }
+
+    private void commit(List<PendingBooking> batch) {
+        List<ReservationRequest> requests = batch.stream()
+                .map(PendingBooking::request)
+                .toList();
+
+        List<ReservationResult> results;
+        try {
+            results = commitTransaction.execute(status -> reservationService.createReservationGroup(requests));
+        } catch (RuntimeException e) {
+            fallbackCount.incrementAndGet();
+            log.warn("그룹 커밋 실패, 요청별 처리로 전환: {}건, 원인={}", batch.size(), e.getMessage());
+            commitIndividually(batch);
+            return;
+        }
+
+        groupCommitCount.incrementAndGet();
+        bookingCount.addAndGet(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ReservationResult result = results.get(i);
+            if (result.isSuccess()) {
+                batch.get(i).future().complete(result.getReservation());
+            } else {
+                batch.get(i).future().completeExceptionally(new RuntimeException(result.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * 그룹 커밋이 롤백된 묶음을 요청별로 재처리
+     * 대기 시간이 지난 요청은 요청 스레드가 트랜잭션 하나만큼만 더 기다리므로 재처리하지 않고 실패시킴
+     */
+    private void commitIndividually(List<PendingBooking> batch) {
+        for (PendingBooking pending : batch) {
+            if (pending.expired()) {
+                pending.future().completeExceptionally(new RuntimeException("예약 처리 대기 시간이 초과되었습니다."));
+                continue;
+            }
+            try {
+                // 매 시도가 시간 제한이 있는 새 트랜잭션으로 실행되도록 재시도 실행기 안에서 트랜잭션 시작
+                pending.future().complete(bookingRetryExecutor.execute(() -> commitTransaction.execute(
+                        status -> reservationService.createReservation(pending.request()))));
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Partition {
+        private final Queue<PendingBooking> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    private record PendingBooking(ReservationRequest request, CompletableFuture<ReservationResponse> future,
+                                  AtomicInteger state, long deadlineNanos) {
+
+        /**
+         * 작업자가 처리 시작 (이미 취소됐으면 false)
+         */
+        boolean start() {
+            return state.compareAndSet(QUEUED, STARTED);
+        }
+
+        /**
+         * 요청 스레드가 대기 포기 (이미 처리 중이면 false)
+         */
+        boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+
+        /**
+         * 요청 스레드의 대기 시간(timeout-millis)이 지났는지
+         */
+        boolean expired() {
+            return System.nanoTime() - deadlineNanos > 0;
+        }
+    }
+}
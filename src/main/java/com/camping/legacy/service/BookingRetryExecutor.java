@@ -0,0 +1,105 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.BookingMode;
+import com.camping.legacy.config.BookingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 예약 재시도 실행기
+ *
+ * - 낙관적 모드(OPTIMISTIC): 버전 충돌(OptimisticLockingFailureException) 시 트랜잭션 전체를 다시 실행
+ * - 재시도 간격은 지수 증가 + 무작위(jitter)로 동시 재시도가 몰리지 않도록 함
+ * - 모든 모드: 확인 코드가 중복되면(ConfirmationCodeCollisionException) 새 코드로 즉시 다시 실행
+ * - 재시도/포기 횟수를 집계
+ *
+ * 트랜잭션 밖(컨트롤러)에서 호출해야 매 시도가 새 트랜잭션으로 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingRetryExecutor {
+
+    private static final int MAX_CODE_ATTEMPTS = 3;
+
+    private final BookingProperties bookingProperties;
+
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong exhaustedCount = new AtomicLong();
+    private final AtomicLong codeCollisionCount = new AtomicLong();
+
+    public <T> T execute(Supplier<T> action) {
+        if (bookingProperties.getMode() != BookingMode.OPTIMISTIC) {
+            return executeWithCodeRetry(action);
+        }
+
+        int maxAttempts = Math.max(1, bookingProperties.getOptimistic().getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeWithCodeRetry(action);
+            } catch (OptimisticLockingFailureException e) {
+                conflictCount.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    exhaustedCount.incrementAndGet();
+                    log.warn("낙관적 잠금 충돌 재시도 한도 초과: {}회 시도", attempt);
+                    throw new RuntimeException("다른 예약 요청과 충돌했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                retryCount.incrementAndGet();
+                log.info("낙관적 잠금 충돌, 재시도 {}/{}", attempt, maxAttempts - 1);
+                sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    /**
+     * 재시도 통계
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put("conflicts", conflictCount.get());
+        statistics.put("retries", retryCount.get());
+        statistics.put("exhausted", exhaustedCount.get());
+        statistics.put("codeCollisions", codeCollisionCount.get());
+        return statistics;
+    }
+
+    private <T> T executeWithCodeRetry(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConfirmationCodeCollisionException e) {
+                codeCollisionCount.incrementAndGet();
+                if (attempt >= MAX_CODE_ATTEMPTS) {
+                    log.warn("확인 코드 중복 재시도 한도 초과: {}회 시도", attempt);
+                    throw new RuntimeException("확인 코드 발급에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.info("확인 코드 중복, 새 코드로 재시도 {}/{}", attempt, MAX_CODE_ATTEMPTS - 1);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        BookingProperties.Optimistic optimistic = bookingProperties.getOptimistic();
+        long ceiling = Math.min(optimistic.getMaxBackoffMillis(),
+                optimistic.getBaseBackoffMillis() << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("예약 처리가 중단되었습니다.");
+        }
+    }
+}
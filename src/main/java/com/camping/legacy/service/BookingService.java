@@ -0,0 +1,70 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.BookingMode;
+import com.camping.legacy.config.BookingProperties;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 생성/수정 진입점
+ * 설정된 예약 모드(camping.booking.mode)에 따라 처리 방식을 선택한다.
+ *
+ * 트랜잭션 밖에서 동작해야 하므로 @Transactional을 붙이지 않는다.
+ * (재시도와 파이프라인 모두 매번 새 트랜잭션으로 ReservationService를 호출)
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingService {
+
+    private final ReservationService reservationService;
+    private final BookingRetryExecutor bookingRetryExecutor;
+    private final BookingPipeline bookingPipeline;
+    private final IdempotencyService idempotencyService;
+    private final BookingProperties bookingProperties;
+
+    public ReservationResponse createReservation(ReservationRequest request) {
+        if (bookingProperties.getMode() == BookingMode.PIPELINE) {
+            return bookingPipeline.submitAndWait(request);
+        }
+        return bookingRetryExecutor.execute(() -> reservationService.createReservation(request));
+    }
+
+    /**
+     * Idempotency-Key가 있으면 같은 키의 재요청에 처음 응답을 그대로 반환
+     */
+    public ReservationResponse createReservation(ReservationRequest request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createReservation(request);
+        }
+        return idempotencyService.execute(idempotencyKey, request, () -> createReservation(request));
+    }
+
+    public List<ReservationResult> createReservationBatch(List<ReservationRequest> requests) {
+        return bookingRetryExecutor.execute(() -> reservationService.createReservationBatch(requests));
+    }
+
+    public ReservationResponse confirmHold(String holdId, ReservationRequest request) {
+        return bookingRetryExecutor.execute(() -> reservationService.confirmHold(holdId, request));
+    }
+
+    public ReservationResponse updateReservation(Long id, ReservationRequest request, String confirmationCode) {
+        return bookingRetryExecutor.execute(() -> reservationService.updateReservation(id, request, confirmationCode));
+    }
+
+    /**
+     * 예약 처리 통계 (재시도 + 파이프라인 + 멱등성 키)
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>(bookingRetryExecutor.getStatistics());
+        statistics.putAll(bookingPipeline.getStatistics());
+        statistics.putAll(idempotencyService.getStatistics());
+        return statistics;
+    }
+}
@@ -0,0 +1,102 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.repository.CampsiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사이트 목록 인메모리 카탈로그 (사이트 번호 / ID 조회)
+ *
+ * - 사이트는 거의 바뀌지 않으므로 전체를 불변 스냅샷으로 들고 조회는 맵 읽기로 처리 (DB 접근 없음)
+ * - 시작 시 한 번 구성하고, 사이트가 바뀌면(커밋 후) 버린 뒤 다음 조회에서 통째로 다시 구성 (copy-on-write)
+ * - 스냅샷은 별도 트랜잭션에서 읽어 준영속 상태로 보관 → 요청 트랜잭션의 영속성 컨텍스트와 공유되지 않음
+ *   (꺼낸 Campsite는 읽기 전용으로 취급하고, 변경/잠금이 필요하면 CampsiteRepository를 사용)
+ */
+@Slf4j
+@Component
+public class CampsiteCatalog {
+
+    private final CampsiteRepository campsiteRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private volatile Snapshot snapshot;
+
+    public CampsiteCatalog(CampsiteRepository campsiteRepository, PlatformTransactionManager transactionManager) {
+        this.campsiteRepository = campsiteRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        current();
+    }
+
+    /**
+     * 전체 사이트 (등록 순)
+     */
+    public List<Campsite> findAll() {
+        return current().sites();
+    }
+
+    public Optional<Campsite> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public Optional<Campsite> findBySiteNumber(String siteNumber) {
+        return Optional.ofNullable(current().bySiteNumber().get(siteNumber));
+    }
+
+    /**
+     * 다음 조회 때 DB에서 다시 구성
+     * 구성 중이면 끝날 때까지 기다렸다가 버림 → 커밋 전 데이터로 만든 스냅샷이 남지 않음
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build(loadTransaction.execute(status -> campsiteRepository.findAll()));
+                    snapshot = current;
+                    log.debug("사이트 카탈로그 구성: {}개", current.sites().size());
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot build(List<Campsite> campsites) {
+        List<Campsite> sites = new ArrayList<>(campsites);
+        sites.sort(Comparator.comparing(Campsite::getId));
+
+        Map<Long, Campsite> byId = new HashMap<>();
+        Map<String, Campsite> bySiteNumber = new HashMap<>();
+        for (Campsite site : sites) {
+            byId.put(site.getId(), site);
+            bySiteNumber.put(site.getSiteNumber(), site);
+        }
+        return new Snapshot(List.copyOf(sites), Map.copyOf(byId), Map.copyOf(bySiteNumber));
+    }
+
+    private record Snapshot(List<Campsite> sites, Map<Long, Campsite> byId, Map<String, Campsite> bySiteNumber) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.util.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사이트 변경 시 인메모리 사이트 카탈로그 / 색인 / 조회 캐시 무효화 (커밋 후)
+ * 엔티티 리스너는 JPA 초기화 중에 만들어지므로 색인은 사용 시점에 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CampsiteChangeListener {
+
+    private final ObjectProvider<CampsiteCatalog> campsiteCatalog;
+    private final ObjectProvider<SiteAttributeIndex> siteAttributeIndex;
+    private final ObjectProvider<AvailabilityCache> availabilityCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Campsite campsite) {
+        TransactionCallbacks.afterCommit(this::invalidate);
+    }
+
+    private void invalidate() {
+        campsiteCatalog.getObject().invalidate();
+        siteAttributeIndex.getObject().invalidate();
+        availabilityCache.getObject().clear();
+    }
+}
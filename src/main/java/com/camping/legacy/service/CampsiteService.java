@@ -1,8 +1,6 @@
 package com.camping.legacy.service;
 
 import com.camping.legacy.domain.Campsite;
-import com.camping.legacy.repository.CampsiteRepository;
-import com.camping.legacy.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,26 +13,25 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CampsiteService {
     
-    private final CampsiteRepository campsiteRepository;
-    private final ReservationRepository reservationRepository;
+    private final CampsiteCatalog campsiteCatalog;
+    private final ReservationIntervalIndex reservationIntervalIndex;
     
     public List<Campsite> getAllCampsites() {
-        return campsiteRepository.findAll();
+        return campsiteCatalog.findAll();
     }
     
     public Campsite getCampsiteById(Long id) {
-        return campsiteRepository.findById(id)
+        return campsiteCatalog.findById(id)
                 .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
     }
     
     public Campsite getCampsiteBySiteNumber(String siteNumber) {
-        return campsiteRepository.findBySiteNumber(siteNumber)
+        return campsiteCatalog.findBySiteNumber(siteNumber)
                 .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
     }
     
     public boolean isAvailable(String siteNumber, LocalDate date) {
         Campsite campsite = getCampsiteBySiteNumber(siteNumber);
-        return !reservationRepository.hasOverlappingReservation(
-                campsite, date, date, "CONFIRMED");
+        return !reservationIntervalIndex.hasOverlap(campsite.getId(), date, date);
     }
 }
\ No newline at end of file
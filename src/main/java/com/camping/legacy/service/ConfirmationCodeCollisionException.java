@@ -0,0 +1,12 @@
+package com.camping.legacy.service;
+
+/**
+ * 발급한 확인 코드가 이미 사용 중 (유니크 인덱스 위반)
+ * BookingRetryExecutor가 예약 트랜잭션을 다시 실행해 새 코드를 발급한다.
+ */
+public class ConfirmationCodeCollisionException extends RuntimeException {
+
+    public ConfirmationCodeCollisionException(Throwable cause) {
+        super("확인 코드가 중복되었습니다.", cause);
+    }
+}
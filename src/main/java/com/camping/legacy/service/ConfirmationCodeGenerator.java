@@ -0,0 +1,108 @@
+package com.camping.legacy.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 예약 확인 코드 발급기
+ *
+ * - 영문 대문자 + 숫자 6자리 (36^6 ≒ 21억 가지)
+ * - 스레드별 난수(ThreadLocalRandom)로 한 번에 하나의 long을 뽑아 36진수로 변환
+ * - 미리 만들어 둔 코드 풀에서 꺼내 쓰고, 풀이 줄면 백그라운드 스레드가 다시 채움
+ * - 중복 여부는 reservations.confirmation_code 유니크 인덱스가 보장
+ *   → 충돌 시 ConfirmationCodeCollisionException, 예약 트랜잭션을 다시 실행해 새 코드 발급
+ */
+@Component
+public class ConfirmationCodeGenerator {
+
+    public static final int CODE_LENGTH = 6;
+    public static final String UNIQUE_CONSTRAINT = "uk_reservations_confirmation_code";
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final long CODE_SPACE = pow(ALPHABET.length, CODE_LENGTH);
+    private static final int POOL_SIZE = 4096;
+    private static final int REFILL_THRESHOLD = POOL_SIZE / 4;
+
+    private final BlockingQueue<String> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    private ExecutorService refiller;
+
+    @PostConstruct
+    void start() {
+        refiller = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "confirmation-code-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestRefill();
+    }
+
+    @PreDestroy
+    void stop() {
+        refiller.shutdown();
+    }
+
+    /**
+     * 확인 코드 발급 (풀이 비어 있으면 호출 스레드에서 바로 생성)
+     */
+    public String next() {
+        String code = pool.poll();
+        if (pool.size() < REFILL_THRESHOLD) {
+            requestRefill();
+        }
+        return code != null ? code : generate();
+    }
+
+    /**
+     * 확인 코드 유니크 제약 위반인지 확인 (예약 박 원장 등 다른 제약 위반과 구분)
+     */
+    public static boolean isCollision(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(UNIQUE_CONSTRAINT);
+    }
+
+    static String generate() {
+        long value = ThreadLocalRandom.current().nextLong(CODE_SPACE);
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (value % ALPHABET.length)];
+            value /= ALPHABET.length;
+        }
+        return new String(code);
+    }
+
+    private void requestRefill() {
+        if (refiller == null || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        refiller.execute(() -> {
+            try {
+                while (pool.offer(generate())) {
+                    // 풀이 가득 찰 때까지 채움
+                }
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
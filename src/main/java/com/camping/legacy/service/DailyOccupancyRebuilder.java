@@ -0,0 +1,42 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.repository.DailyOccupancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일별 점유 집계 재구성 명령
+ *
+ * 집계가 원장과 어긋났을 때(수동 SQL 수정, 장애 복구 등) 예약 박 원장에서 통째로 다시 계산한다.
+ * 실행: --rebuild-daily-occupancy 옵션으로 기동하면 시작 시 한 번 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyOccupancyRebuilder implements ApplicationRunner {
+
+    private static final String OPTION = "rebuild-daily-occupancy";
+
+    private final DailyOccupancyRepository dailyOccupancyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 집계를 지우고 다시 채움 (한 트랜잭션, 도중에 조회해도 이전 집계가 보임)
+     */
+    public int rebuild() {
+        int rows = transactionTemplate.execute(status -> dailyOccupancyRepository.rebuild());
+        log.info("일별 점유 집계 재구성 완료: {}행", rows);
+        return rows;
+    }
+}
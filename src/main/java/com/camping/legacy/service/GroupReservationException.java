@@ -0,0 +1,20 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationResult;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 단체 예약 실패 (요청 사이트별 실패 사유 포함)
+ */
+@Getter
+public class GroupReservationException extends RuntimeException {
+
+    private final List<ReservationResult> results;
+
+    public GroupReservationException(List<ReservationResult> results) {
+        super("단체 예약에 실패했습니다. 사이트별 결과를 확인해주세요.");
+        this.results = results;
+    }
+}
@@ -0,0 +1,137 @@
+package com.camping.legacy.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 타이머 휠 (만료 작업 예약)
+ *
+ * - 슬롯 wheelSize개를 tickMillis 간격으로 한 칸씩 돌며 해당 슬롯의 작업만 확인
+ * - 한 틱의 처리량은 슬롯에 들어 있는 작업 수에만 비례 (전체 예약 수와 무관)
+ * - 휠 한 바퀴보다 긴 지연은 남은 바퀴 수(remainingRounds)로 표현
+ * - 취소된 작업은 해당 슬롯을 지날 때 제거
+ *
+ * 예약/취소는 어느 스레드에서나 가능하고, 슬롯은 틱 스레드만 수정한다.
+ */
+@Slf4j
+public class HashedTimerWheel {
+
+    private final long tickMillis;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final String threadName;
+
+    private volatile long tick;
+    private ScheduledExecutorService ticker;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickMillis, int wheelSize, String threadName) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.threadName = threadName;
+    }
+
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdown();
+        }
+    }
+
+    /**
+     * delayMillis 후에 task 실행 (틱 단위로 올림)
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long delayTicks = Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+        Timeout timeout = new Timeout(task, tick + delayTicks);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 한 틱 진행 (틱 스레드에서 호출, 테스트에서는 직접 호출)
+     */
+    void advance() {
+        try {
+            transferPending();
+            expireCurrentSlot();
+        } catch (RuntimeException e) {
+            log.error("타이머 휠 처리 중 오류", e);
+        } finally {
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long deadline = Math.max(timeout.deadlineTick, tick);
+            timeout.remainingRounds = (deadline - tick) / wheel.length;
+            wheel[(int) (deadline & mask)].add(timeout);
+        }
+    }
+
+    private void expireCurrentSlot() {
+        Iterator<Timeout> iterator = wheel[(int) (tick & mask)].iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.error("만료 작업 실행 중 오류", e);
+                }
+            }
+        }
+    }
+
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
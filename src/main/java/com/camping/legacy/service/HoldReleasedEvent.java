@@ -0,0 +1,7 @@
+package com.camping.legacy.service;
+
+/**
+ * 홀드가 예약으로 확정되지 않고 풀림 (만료 또는 취소)
+ */
+public record HoldReleasedEvent(String holdId) {
+}
@@ -0,0 +1,201 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.HoldProperties;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.dto.HoldRequest;
+import com.camping.legacy.dto.HoldResponse;
+import com.camping.legacy.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 홀드 (예약 폼을 작성하는 동안 사이트/기간을 임시 점유)
+ *
+ * - 홀드는 메모리에만 두고 OccupancyIndex의 홀드 비트맵으로 충돌 검사에 반영
+ * - 만료는 해시 타이머 휠로 처리 (DB 폴링 없음)
+ * - 확정 시 홀드를 예약 점유로 전환하고, 예약 트랜잭션이 롤백되면 남은 시간만큼 홀드를 복원
+ * - 홀드 생성/해제/만료도 점유 변경 이벤트로 알림 (조회 캐시 무효화, 실시간 스트림)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+
+    private static final int MAX_HOLD_DAYS = 30;
+
+    private final CampsiteCatalog campsiteCatalog;
+    private final OccupancyIndex occupancyIndex;
+    private final HoldProperties holdProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private HashedTimerWheel expiryWheel;
+
+    @PostConstruct
+    void start() {
+        expiryWheel = new HashedTimerWheel(holdProperties.getTickMillis(), holdProperties.getWheelSize(), "hold-expiry");
+        expiryWheel.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        expiryWheel.stop();
+    }
+
+    /**
+     * 홀드 생성
+     */
+    public HoldResponse createHold(HoldRequest request) {
+        if (request.getSiteNumber() == null || request.getSiteNumber().trim().isEmpty()) {
+            throw new RuntimeException("사이트 번호를 입력해주세요.");
+        }
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate == null || endDate == null) {
+            throw new RuntimeException("예약 기간을 선택해주세요.");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new RuntimeException("과거 날짜로 예약할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_HOLD_DAYS) {
+            throw new RuntimeException("예약 기간은 최대 30일입니다.");
+        }
+
+        Campsite campsite = campsiteCatalog.findBySiteNumber(request.getSiteNumber())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+        if (!occupancyIndex.placeHold(campsite.getId(), startDate, endDate)) {
+            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+        }
+
+        Hold hold = new Hold(UUID.randomUUID().toString(), campsite.getId(), campsite.getSiteNumber(),
+                startDate, endDate, LocalDateTime.now().plusSeconds(holdProperties.getTtlSeconds()));
+        register(hold);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.booked(
+                campsite.getId(), campsite.getSiteNumber(), startDate, endDate));
+        log.info("홀드 생성: {} {} ~ {}, 만료 {}", hold.siteNumber, startDate, endDate, hold.expiresAt);
+        return hold.toResponse();
+    }
+
+    /**
+     * 홀드 조회 (만료/확정/취소된 홀드는 예외)
+     */
+    public HoldResponse getHold(String holdId) {
+        return findHold(holdId).toResponse();
+    }
+
+    /**
+     * 홀드 취소
+     */
+    public void releaseHold(String holdId) {
+        Hold hold = holds.remove(holdId);
+        if (hold == null) {
+            throw new RuntimeException("홀드가 만료되었거나 존재하지 않습니다.");
+        }
+        hold.timeout.cancel();
+        occupancyIndex.releaseHold(hold.campsiteId, hold.startDate, hold.endDate);
+        publishReleased(hold);
+    }
+
+    /**
+     * 홀드를 예약 점유로 전환 (예약 확정 트랜잭션 안에서 호출)
+     * 트랜잭션이 롤백되면 만료 전인 홀드는 복원하고, 이미 만료 시각이 지났으면 해제한다.
+     */
+    public void consume(String holdId, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        Hold hold = holds.remove(holdId);
+        if (hold == null) {
+            throw new RuntimeException("홀드가 만료되었거나 존재하지 않습니다.");
+        }
+        hold.timeout.cancel();
+        if (!hold.campsiteId.equals(campsiteId) || !hold.startDate.equals(startDate) || !hold.endDate.equals(endDate)) {
+            register(hold);
+            throw new RuntimeException("홀드한 사이트/기간과 예약 정보가 다릅니다.");
+        }
+
+        occupancyIndex.convertHold(campsiteId, startDate, endDate);
+        TransactionCallbacks.onCompletion(
+                () -> { },
+                () -> {
+                    occupancyIndex.revertHold(campsiteId, startDate, endDate);
+                    if (hold.expiresAt.isAfter(LocalDateTime.now())) {
+                        register(hold);
+                    } else {
+                        occupancyIndex.releaseHold(campsiteId, startDate, endDate);
+                        publishReleased(hold);
+                    }
+                });
+    }
+
+    /**
+     * 현재 유지 중인 홀드 수
+     */
+    public int getActiveHoldCount() {
+        return holds.size();
+    }
+
+    private Hold findHold(String holdId) {
+        Hold hold = holdId == null ? null : holds.get(holdId);
+        if (hold == null) {
+            throw new RuntimeException("홀드가 만료되었거나 존재하지 않습니다.");
+        }
+        return hold;
+    }
+
+    private void register(Hold hold) {
+        long delayMillis = Math.max(0, ChronoUnit.MILLIS.between(LocalDateTime.now(), hold.expiresAt));
+        hold.timeout = expiryWheel.schedule(() -> expire(hold), delayMillis);
+        holds.put(hold.holdId, hold);
+    }
+
+    private void expire(Hold hold) {
+        if (holds.remove(hold.holdId, hold)) {
+            occupancyIndex.releaseHold(hold.campsiteId, hold.startDate, hold.endDate);
+            publishReleased(hold);
+            log.info("홀드 만료: {} {} ~ {}", hold.siteNumber, hold.startDate, hold.endDate);
+        }
+    }
+
+    private void publishReleased(Hold hold) {
+        eventPublisher.publishEvent(new HoldReleasedEvent(hold.holdId));
+        eventPublisher.publishEvent(AvailabilityChangedEvent.released(
+                hold.campsiteId, hold.siteNumber, hold.startDate, hold.endDate));
+    }
+
+    private static final class Hold {
+
+        private final String holdId;
+        private final Long campsiteId;
+        private final String siteNumber;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final LocalDateTime expiresAt;
+        private volatile HashedTimerWheel.Timeout timeout;
+
+        private Hold(String holdId, Long campsiteId, String siteNumber,
+                     LocalDate startDate, LocalDate endDate, LocalDateTime expiresAt) {
+            this.holdId = holdId;
+            this.campsiteId = campsiteId;
+            this.siteNumber = siteNumber;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.expiresAt = expiresAt;
+        }
+
+        private HoldResponse toResponse() {
+            return new HoldResponse(holdId, siteNumber, startDate, endDate, expiresAt);
+        }
+    }
+}
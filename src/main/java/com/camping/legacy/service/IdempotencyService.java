@@ -0,0 +1,261 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.IdempotencyProperties;
+import com.camping.legacy.domain.IdempotencyRecord;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 예약 생성 멱등성 처리 (Idempotency-Key 헤더)
+ *
+ * - 같은 키로 다시 들어온 요청은 예약을 다시 만들지 않고 처음 응답을 돌려줌
+ * - 조회 순서: 메모리 LRU(TTL) → 처리 중인 요청 → idempotency_keys 테이블
+ * - 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청의 결과를 함께 기다림 (사이트 잠금을 다시 잡지 않음)
+ * - 예약 전에 idempotency_keys에 INSERT로 키를 선점 → 다른 인스턴스/재기동 후의 재요청도 예약을 다시 만들지 않음
+ *   (이미 있는 키: 응답이 있으면 재전송, 없으면 처리 중으로 거절)
+ * - 실패한 요청은 선점을 해제하므로 같은 키로 다시 시도할 수 있음
+ * - 응답 없이 claim-lease-seconds보다 오래된 선점(처리 도중 종료, 응답 저장 실패)은 같은 요청의 재시도가 넘겨받음
+ *
+ * 트랜잭션 밖(BookingService)에서 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, StoredResponse> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+            return size() > idempotencyProperties.getCacheSize();
+        }
+    };
+
+    private final AtomicLong replayCount = new AtomicLong();
+    private final AtomicLong collapsedCount = new AtomicLong();
+
+    public ReservationResponse execute(String key, ReservationRequest request, Supplier<ReservationResponse> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 형식이 올바르지 않습니다.");
+        }
+        String fingerprint = fingerprint(request);
+
+        StoredResponse stored = getCached(key);
+        if (stored != null) {
+            return replay(stored, fingerprint);
+        }
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            collapsedCount.incrementAndGet();
+            return await(running, fingerprint);
+        }
+
+        try {
+            // 앞선 요청이 방금 끝난 경우
+            stored = getCached(key);
+            ReservationResponse response = stored != null ? replay(stored, fingerprint) : claimAndCreate(key, fingerprint, action);
+            mine.future().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 멱등성 처리 통계
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put("idempotentReplays", replayCount.get());
+        statistics.put("idempotentCollapsed", collapsedCount.get());
+        return statistics;
+    }
+
+    /**
+     * 키를 선점한 뒤 예약 (선점에 실패하면 저장된 응답 재전송 또는 처리 중으로 거절)
+     * 선점 시각(created_at)이 선점 소유 표시 - 응답 저장/해제는 선점 시각이 그대로일 때만 반영됨
+     */
+    private ReservationResponse claimAndCreate(String key, String fingerprint, Supplier<ReservationResponse> action) {
+        // DB 시각 정밀도와 맞추기 위해 밀리초 단위로 자름 (선점 시각 비교에 사용)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!claim(key, fingerprint, now) && !takeOverStaleClaim(key, fingerprint, now)) {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElse(null);
+            if (record != null && !expiresAt(record).isBefore(now)) {
+                return replayRecord(key, record, fingerprint);
+            }
+            // 보관 기간이 지났거나 그 사이 해제된 키 → 한 번만 다시 선점
+            if (record != null) {
+                idempotencyRecordRepository.deleteExpired(key, now.minusSeconds(idempotencyProperties.getTtlSeconds()));
+            }
+            if (!claim(key, fingerprint, now)) {
+                throw new RuntimeException("같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        ReservationResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 예약이 만들어지지 않았으므로 같은 키로 다시 시도할 수 있게 선점 해제
+            idempotencyRecordRepository.releaseClaim(key, now);
+            throw e;
+        }
+        putCached(key, new StoredResponse(fingerprint, response, now.plusSeconds(idempotencyProperties.getTtlSeconds())));
+
+        try {
+            if (idempotencyRecordRepository.complete(key, now, objectMapper.writeValueAsString(response)) == 0) {
+                log.warn("멱등성 키 선점을 다른 요청이 넘겨받아 응답을 저장하지 않음: key={}", key);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 예약은 이미 커밋됨 - 이 인스턴스는 메모리 응답으로 재전송, 다른 곳의 재요청은 선점 유지 시간 동안 처리 중으로 거절
+            log.warn("멱등성 키 응답 저장 실패: key={}, 원인={}", key, e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 응답 없이 선점 유지 시간이 지난 키를 같은 요청이 넘겨받음 (처리하던 요청이 종료됐거나 응답 저장에 실패한 경우)
+     */
+    private boolean takeOverStaleClaim(String key, String fingerprint, LocalDateTime now) {
+        LocalDateTime leaseExpiredBefore = now.minusSeconds(idempotencyProperties.getClaimLeaseSeconds());
+        if (idempotencyRecordRepository.takeOverClaim(key, fingerprint, now, leaseExpiredBefore) == 0) {
+            return false;
+        }
+        log.info("만료된 멱등성 키 선점을 넘겨받음: key={}", key);
+        return true;
+    }
+
+    /**
+     * 응답 없이 키만 INSERT (이미 있으면 false)
+     */
+    private boolean claim(String key, String fingerprint, LocalDateTime now) {
+        try {
+            idempotencyRecordRepository.claim(key, fingerprint, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이미 있는 키: 다른 요청이면 거절, 응답이 있으면 재전송, 없으면 처리 중
+     */
+    private ReservationResponse replayRecord(String key, IdempotencyRecord record, String fingerprint) {
+        if (!record.getRequestFingerprint().equals(fingerprint)) {
+            throw new RuntimeException("같은 Idempotency-Key로 다른 예약 요청을 보낼 수 없습니다.");
+        }
+        StoredResponse stored = load(key, record);
+        if (stored == null) {
+            throw new RuntimeException("같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return replay(stored, fingerprint);
+    }
+
+    private LocalDateTime expiresAt(IdempotencyRecord record) {
+        return record.getCreatedAt().plusSeconds(idempotencyProperties.getTtlSeconds());
+    }
+
+    private StoredResponse load(String key, IdempotencyRecord record) {
+        if (record.getResponseBody() == null) {
+            return null;
+        }
+        LocalDateTime expiresAt = expiresAt(record);
+        try {
+            ReservationResponse response = objectMapper.readValue(record.getResponseBody(), ReservationResponse.class);
+            StoredResponse stored = new StoredResponse(record.getRequestFingerprint(), response, expiresAt);
+            putCached(key, stored);
+            return stored;
+        } catch (JsonProcessingException e) {
+            log.warn("멱등성 키 응답 복원 실패: key={}, 원인={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private ReservationResponse replay(StoredResponse stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new RuntimeException("같은 Idempotency-Key로 다른 예약 요청을 보낼 수 없습니다.");
+        }
+        replayCount.incrementAndGet();
+        return stored.response();
+    }
+
+    private ReservationResponse await(InFlight running, String fingerprint) {
+        if (!running.fingerprint().equals(fingerprint)) {
+            throw new RuntimeException("같은 Idempotency-Key로 다른 예약 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return running.future().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("예약 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("예약 처리가 중단되었습니다.");
+        }
+    }
+
+    private StoredResponse getCached(String key) {
+        synchronized (cache) {
+            StoredResponse stored = cache.get(key);
+            if (stored != null && stored.expiresAt().isBefore(LocalDateTime.now())) {
+                cache.remove(key);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void putCached(String key, StoredResponse stored) {
+        synchronized (cache) {
+            cache.put(key, stored);
+        }
+    }
+
+    static String fingerprint(ReservationRequest request) {
+        return String.join("|",
+                String.valueOf(request.getSiteNumber()),
+                String.valueOf(request.getSiteClass()),
+                String.valueOf(request.getStartDate()),
+                String.valueOf(request.getEndDate()),
+                String.valueOf(request.getCustomerName()),
+                String.valueOf(request.getPhoneNumber()),
+                String.valueOf(request.getNumberOfPeople()));
+    }
+
+    private record StoredResponse(String fingerprint, ReservationResponse response, LocalDateTime expiresAt) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<ReservationResponse> future) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.camping.legacy.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기간 인덱스 (구간 트리)
+ *
+ * - 시작일 순으로 정렬된 treap에 서브트리의 최대 종료일(maxEnd)을 함께 저장
+ * - 겹치는 구간 조회는 maxEnd로 가지치기하므로 O(log n + 결과 수)
+ * - 기간은 시작일~종료일 양끝 포함, 같은 시작일은 id로 구분
+ *
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    public void insert(long id, LocalDate startDate, LocalDate endDate, T value) {
+        Node<T> node = new Node<>(id, startDate, endDate, value);
+        Node<T>[] parts = split(root, startDate, id);
+        root = merge(merge(parts[0], node), parts[1]);
+        size++;
+    }
+
+    /**
+     * @return 삭제 여부
+     */
+    public boolean remove(long id, LocalDate startDate) {
+        Node<T>[] left = split(root, startDate, id);
+        Node<T>[] right = split(left[1], startDate, id + 1);
+        boolean removed = right[0] != null;
+        if (removed) {
+            size--;
+        }
+        root = merge(left[0], right[1]);
+        return removed;
+    }
+
+    /**
+     * 주어진 기간과 하루라도 겹치는 값 (시작일 순)
+     */
+    public List<T> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        List<T> result = new ArrayList<>();
+        collect(root, startDate, endDate, result);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void collect(Node<T> node, LocalDate startDate, LocalDate endDate, List<T> result) {
+        if (node == null || node.maxEnd.isBefore(startDate)) {
+            return;
+        }
+        collect(node.left, startDate, endDate, result);
+        if (node.start.isAfter(endDate)) {
+            return;
+        }
+        if (!node.end.isBefore(startDate)) {
+            result.add(node.value);
+        }
+        collect(node.right, startDate, endDate, result);
+    }
+
+    /**
+     * (start, id)보다 작은 노드와 크거나 같은 노드로 분리
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, LocalDate start, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (node.isBefore(start, id)) {
+            Node<T>[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node<T>[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static final class Node<T> {
+
+        private final long id;
+        private final LocalDate start;
+        private final LocalDate end;
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private LocalDate maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long id, LocalDate start, LocalDate end, T value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+
+        private boolean isBefore(LocalDate otherStart, long otherId) {
+            int compare = start.compareTo(otherStart);
+            return compare < 0 || (compare == 0 && id < otherId);
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
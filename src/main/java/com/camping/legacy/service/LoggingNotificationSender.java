@@ -0,0 +1,24 @@
+package com.camping.legacy.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그로만 남기는 기본 발송기
+ * 실제 게이트웨이를 붙일 때는 해당 구현을 @Primary 빈으로 등록한다.
+ */
+@Slf4j
+@Component
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(List<NotificationMessage> messages) {
+        for (NotificationMessage message : messages) {
+            log.info("[알림 발송] 유형={}, 예약={}, 수신자={}, 전화번호={}, 내용={}",
+                    message.type(), message.reservationId(), message.recipientName(),
+                    message.phoneNumber(), message.content());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.camping.legacy.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 LRU 캐시 (조회 순서 LinkedHashMap)
+ *
+ * 값 계산은 잠금 밖에서 하고, 계산하는 동안 무효화가 있었으면 결과를 저장하지 않는다.
+ * → 커밋 전 데이터로 계산한 값이 무효화 뒤에 다시 들어가는 일이 없음
+ */
+final class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    LruCache(int maxEntries) {
+        int capacity = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    V get(K key, Supplier<V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        V value = loader.get();
+        synchronized (this) {
+            if (value != null && generation == loadGeneration) {
+                entries.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 조건에 맞는 항목 제거 (계산 중인 값도 저장되지 않도록 세대 증가)
+     */
+    synchronized void invalidateIf(Predicate<K> predicate) {
+        generation++;
+        int before = entries.size();
+        entries.keySet().removeIf(predicate);
+        invalidations.addAndGet(before - entries.size());
+    }
+
+    synchronized void clear() {
+        invalidateIf(key -> true);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    long evictions() {
+        return evictions.get();
+    }
+
+    long invalidations() {
+        return invalidations.get();
+    }
+}
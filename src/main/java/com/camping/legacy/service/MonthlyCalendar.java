@@ -0,0 +1,103 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.repository.CalendarReservation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사이트의 월별 예약 현황 (일자 배열)
+ *
+ * 배열 위치 i = 그 달 1일 + i일, 값 = 그 날을 점유한 예약
+ * 예약은 월 범위로 잘라 해당 칸만 채우므로 비용은 (해당 월 예약 수 + 일수)에 비례
+ */
+final class MonthlyCalendar {
+
+    private final long firstEpochDay;
+    private final CalendarReservation[] byDay;
+
+    MonthlyCalendar(YearMonth month) {
+        this.firstEpochDay = month.atDay(1).toEpochDay();
+        this.byDay = new CalendarReservation[month.lengthOfMonth()];
+    }
+
+    static MonthlyCalendar of(YearMonth month, List<CalendarReservation> reservations) {
+        MonthlyCalendar calendar = new MonthlyCalendar(month);
+        reservations.forEach(calendar::add);
+        return calendar;
+    }
+
+    void add(CalendarReservation reservation) {
+        int from = Math.max(0, offset(reservation.getStartDate()));
+        int to = Math.min(byDay.length - 1, offset(reservation.getEndDate()));
+        for (int day = from; day <= to; day++) {
+            byDay[day] = reservation;
+        }
+    }
+
+    List<CalendarResponse.DayStatus> days() {
+        List<CalendarResponse.DayStatus> days = new ArrayList<>(byDay.length);
+        for (int day = 0; day < byDay.length; day++) {
+            CalendarReservation reservation = byDay[day];
+            days.add(CalendarResponse.DayStatus.builder()
+                    .date(LocalDate.ofEpochDay(firstEpochDay + day))
+                    .available(reservation == null)
+                    .customerName(reservation != null ? reservation.getCustomerName() : null)
+                    .reservationId(reservation != null ? reservation.getId() : null)
+                    .build());
+        }
+        return days;
+    }
+
+    /**
+     * 일자별 예약 ID (null = 예약 가능)
+     */
+    List<Long> reservationIds() {
+        return Arrays.stream(byDay)
+                .map(reservation -> reservation != null ? reservation.getId() : null)
+                .toList();
+    }
+
+    /**
+     * 이 달에 나온 예약 ID별 예약자 이름 (날짜 순)
+     */
+    Map<Long, String> customerNames() {
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (CalendarReservation reservation : byDay) {
+            if (reservation != null) {
+                names.putIfAbsent(reservation.getId(), reservation.getCustomerName());
+            }
+        }
+        return names;
+    }
+
+    int reservedDays() {
+        int reserved = 0;
+        for (CalendarReservation reservation : byDay) {
+            if (reservation != null) {
+                reserved++;
+            }
+        }
+        return reserved;
+    }
+
+    Map<String, Integer> summary() {
+        int reserved = reservedDays();
+        Map<String, Integer> summary = new HashMap<>();
+        summary.put("totalDays", byDay.length);
+        summary.put("reservedDays", reserved);
+        summary.put("availableDays", byDay.length - reserved);
+        return summary;
+    }
+
+    private int offset(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay() - firstEpochDay);
+    }
+}
@@ -0,0 +1,118 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.NotificationProperties;
+import com.camping.legacy.repository.OutboxMessageRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 발송기 (아웃박스 → NotificationSender)
+ *
+ * - 전용 스레드 하나가 주기적으로, 또는 커밋 직후 깨어나 아웃박스를 비움
+ * - batchSize건씩 묶어 발송하고 성공한 알림을 SENT로 변경
+ * - 발송이 실패하면 시도 횟수를 올리고 다음 주기에 재시도 (최소 1회 발송 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final NotificationSender notificationSender;
+    private final NotificationProperties notificationProperties;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, notificationProperties.getPollIntervalMillis());
+        executor.scheduleWithFixedDelay(this::dispatchSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 다음 주기를 기다리지 않고 발송 (이미 깨우기 요청이 있으면 합침)
+     */
+    public void wakeUp() {
+        if (executor != null && wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchSafely();
+            });
+        }
+    }
+
+    /**
+     * 발송 대기 중인 알림을 모두 발송
+     *
+     * @return 발송에 성공한 알림 수
+     */
+    public int dispatchPending() {
+        int batchSize = Math.max(1, notificationProperties.getBatchSize());
+        int dispatched = 0;
+        while (true) {
+            List<NotificationMessage> batch = outboxMessageRepository.findPending(batchSize);
+            if (batch.isEmpty()) {
+                return dispatched;
+            }
+            List<Long> ids = batch.stream().map(NotificationMessage::id).toList();
+            try {
+                notificationSender.send(batch);
+            } catch (RuntimeException e) {
+                failedCount.addAndGet(batch.size());
+                outboxMessageRepository.markFailed(ids, notificationProperties.getMaxAttempts());
+                log.warn("알림 발송 실패: {}건, 원인={}", batch.size(), e.getMessage());
+                return dispatched;
+            }
+            outboxMessageRepository.markSent(ids);
+            sentCount.addAndGet(batch.size());
+            dispatched += batch.size();
+            if (batch.size() < batchSize) {
+                return dispatched;
+            }
+        }
+    }
+
+    /**
+     * 발송 통계
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        statistics.put("notificationsSent", sentCount.get());
+        statistics.put("notificationFailures", failedCount.get());
+        return statistics;
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatchPending();
+        } catch (RuntimeException e) {
+            log.error("알림 아웃박스 처리 중 오류", e);
+        }
+    }
+}
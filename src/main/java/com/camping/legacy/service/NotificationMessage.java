@@ -0,0 +1,54 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.WaitlistEntry;
+
+/**
+ * 발송할 알림 한 건
+ * 아웃박스에 기록되기 전에는 id가 null이다.
+ */
+public record NotificationMessage(Long id, String type, Long reservationId,
+                                  String recipientName, String phoneNumber, String content) {
+
+    public static final String TYPE_CONFIRMATION = "CONFIRMATION";
+    public static final String TYPE_CANCELLATION = "CANCELLATION";
+    public static final String TYPE_REMINDER = "REMINDER";
+    public static final String TYPE_WAITLIST_OFFER = "WAITLIST_OFFER";
+
+    public static NotificationMessage confirmation(Reservation reservation, int totalPrice, int earnedPoints) {
+        String content = String.format(
+                "[그린캠핑장] %s님의 예약이 확인되었습니다. 예약 기간: %s ~ %s, 확인코드: %s, 결제 금액: %d원, 적립 포인트: %dP",
+                reservation.getCustomerName(), reservation.getStartDate(), reservation.getEndDate(),
+                reservation.getConfirmationCode(), totalPrice, earnedPoints);
+        return of(TYPE_CONFIRMATION, reservation, content);
+    }
+
+    public static NotificationMessage cancellation(Reservation reservation) {
+        String content = String.format(
+                "[그린캠핑장] %s님의 예약(번호 %d, %s ~ %s)이 취소되었습니다.",
+                reservation.getCustomerName(), reservation.getId(),
+                reservation.getStartDate(), reservation.getEndDate());
+        return of(TYPE_CANCELLATION, reservation, content);
+    }
+
+    public static NotificationMessage reminder(Reservation reservation) {
+        String content = String.format(
+                "[그린캠핑장] %s님, 내일이 예약일입니다! 캠핑장: %s 사이트",
+                reservation.getCustomerName(), reservation.getCampsite().getSiteNumber());
+        return of(TYPE_REMINDER, reservation, content);
+    }
+
+    public static NotificationMessage waitlistOffer(WaitlistEntry entry) {
+        String content = String.format(
+                "[그린캠핑장] %s님, 대기하신 기간(%s ~ %s)에 %s 사이트 자리가 났습니다. %s까지 홀드 %s로 예약을 확정해주세요.",
+                entry.getCustomerName(), entry.getStartDate(), entry.getEndDate(),
+                entry.getOfferedSiteNumber(), entry.getHoldExpiresAt(), entry.getHoldId());
+        return new NotificationMessage(null, TYPE_WAITLIST_OFFER, null,
+                entry.getCustomerName(), entry.getPhoneNumber(), content);
+    }
+
+    private static NotificationMessage of(String type, Reservation reservation, String content) {
+        return new NotificationMessage(null, type, reservation.getId(),
+                reservation.getCustomerName(), reservation.getPhoneNumber(), content);
+    }
+}
@@ -0,0 +1,36 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.repository.OutboxMessageRepository;
+import com.camping.legacy.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 알림 아웃박스 기록기
+ *
+ * - 알림을 호출한 트랜잭션 안에서 notification_outbox에 기록만 하고 바로 반환
+ *   → 게이트웨이 지연이 사이트 잠금 구간에 포함되지 않음
+ * - 예약이 롤백되면 알림도 함께 사라지고, 커밋되면 발송기를 즉시 깨움
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    public void enqueue(NotificationMessage message) {
+        enqueueAll(List.of(message));
+    }
+
+    public void enqueueAll(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        outboxMessageRepository.insertAll(messages);
+
+        TransactionCallbacks.afterCommit(notificationDispatcher::wakeUp);
+    }
+}
@@ -0,0 +1,14 @@
+package com.camping.legacy.service;
+
+import java.util.List;
+
+/**
+ * 알림 발송기 (SMS / 이메일 게이트웨이 연동 지점)
+ *
+ * NotificationDispatcher가 아웃박스에서 꺼낸 알림을 묶음으로 넘긴다.
+ * 예외를 던지면 묶음 전체를 실패로 보고 다음 주기에 다시 시도한다.
+ */
+public interface NotificationSender {
+
+    void send(List<NotificationMessage> messages);
+}
@@ -0,0 +1,421 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.repository.ReservationPeriod;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사이트별 점유 비트맵 (인메모리)
+ *
+ * - 사이트마다 기준일(INDEX_ORIGIN)부터의 일 수를 인덱스로 하는 BitSet 하나를 유지 (비트 1 = 확정 예약이 있는 날)
+ *   → 기준일 이전 날짜는 조회/점유할 수 없음 (예외)
+ * - 예약 기간 충돌 검사를 DB COUNT 쿼리 대신 비트 범위 검사로 처리
+ * - 예약 기간은 기존 쿼리와 동일하게 시작일~종료일 양끝 포함
+ * - 선점(reserve)은 즉시 반영하고 롤백 시 되돌리며, 해제(release)는 커밋 후에 반영
+ *   → 커밋되지 않은 예약도 다른 요청에게는 점유된 것으로 보임
+ *   → 롤백으로 되돌린 기간은 그 사이 캐시된 검색 결과도 함께 무효화
+ * - 홀드(임시 점유)는 별도 비트맵에 기록하고 충돌 검사에 함께 반영 (수명 관리는 HoldService)
+ * - 사이트 종류 예약은 후보 사이트를 한 번의 잠금 안에서 검사/선택/점유 (reserveAny)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccupancyIndex {
+
+    private static final String STATUS_CONFIRMED = "CONFIRMED";
+    private static final int FREE_RUN_HORIZON = 365;
+
+    /**
+     * 비트 인덱스 0에 해당하는 날 (이전 날짜는 음수 인덱스가 되므로 거절)
+     */
+    static final LocalDate INDEX_ORIGIN = LocalDate.of(2000, 1, 1);
+
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityCache availabilityCache;
+
+    private final Map<Long, BitSet> occupancy = new HashMap<>();
+    private final Map<Long, BitSet> held = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 애플리케이션 기동 시 reservations 테이블에서 확정 예약을 읽어 비트맵 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 비트맵 전체 재구성 (DB를 직접 수정한 경우 등)
+     * 메모리에만 있는 홀드는 함께 비워진다.
+     */
+    public void reload() {
+        List<ReservationPeriod> periods = reservationRepository.findPeriodsByStatus(STATUS_CONFIRMED);
+
+        Map<Long, BitSet> loaded = new HashMap<>();
+        for (ReservationPeriod period : periods) {
+            if (period.getStartDate() == null || period.getEndDate() == null
+                    || period.getEndDate().isBefore(INDEX_ORIGIN)) {
+                continue;
+            }
+            // 기준일 이전 박은 조회할 수 없으므로 기준일부터만 기록
+            LocalDate startDate = period.getStartDate().isBefore(INDEX_ORIGIN) ? INDEX_ORIGIN : period.getStartDate();
+            BitSet nights = loaded.computeIfAbsent(period.getCampsiteId(), id -> new BitSet());
+            nights.set(toIndex(startDate), toIndex(period.getEndDate()) + 1);
+        }
+
+        lock.writeLock().lock();
+        try {
+            occupancy.clear();
+            occupancy.putAll(loaded);
+            held.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("점유 비트맵 로딩 완료: 사이트 {}개, 예약 {}건", loaded.size(), periods.size());
+    }
+
+    /**
+     * 기간 전체가 비어 있는지 확인
+     */
+    public boolean isFree(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            return isFreeInternal(campsiteId, startDate, endDate);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 사이트 중 기간 전체가 비어 있는 사이트 (한 번의 잠금으로 조회)
+     */
+    public Set<Long> findFree(Collection<Long> campsiteIds, LocalDate startDate, LocalDate endDate) {
+        Set<Long> free = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (Long campsiteId : campsiteIds) {
+                if (isFreeInternal(campsiteId, startDate, endDate)) {
+                    free.add(campsiteId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return free;
+    }
+
+    /**
+     * 후보 사이트별 기간 내 점유된 날 (비트 i = startDate + i일, 홀드 포함)
+     * 한 번의 잠금으로 전체 사이트를 복사한다.
+     */
+    public Map<Long, BitSet> findOccupiedNights(Collection<Long> campsiteIds, LocalDate startDate, LocalDate endDate) {
+        int offset = toIndex(startDate);
+        Map<Long, BitSet> result = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long campsiteId : campsiteIds) {
+                BitSet nights = copyRange(occupancy, campsiteId, startDate, endDate);
+                nights.or(copyRange(held, campsiteId, startDate, endDate));
+                result.put(campsiteId, nights.isEmpty() ? nights : nights.get(offset, nights.length()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 기간이 비어 있으면 점유 처리 (검사 + 점유를 원자적으로 수행)
+     * 트랜잭션이 롤백되면 점유가 해제된다.
+     *
+     * @return 점유 성공 여부 (false = 이미 예약된 날이 있음)
+     */
+    public boolean reserve(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            if (!isFreeInternal(campsiteId, startDate, endDate)) {
+                return false;
+            }
+            mark(campsiteId, startDate, endDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TransactionCallbacks.onCompletion(
+                () -> { },
+                () -> rollBack(campsiteId, startDate, endDate));
+        return true;
+    }
+
+    /**
+     * 후보 사이트 중 기간 전체가 비어 있는 사이트를 전략에 따라 골라 점유 (검사 + 선택 + 점유를 원자적으로 수행)
+     * 트랜잭션이 롤백되면 점유가 해제된다.
+     *
+     * @param campsiteIds 후보 사이트 (전략에 전달되는 순서)
+     * @return 점유한 사이트 ID (비어 있는 후보가 없으면 empty)
+     */
+    public Optional<Long> reserveAny(List<Long> campsiteIds, LocalDate startDate, LocalDate endDate,
+                                     SiteAssignmentStrategy strategy) {
+        Long chosen;
+        lock.writeLock().lock();
+        try {
+            List<FreeSlot> candidates = new ArrayList<>();
+            for (Long campsiteId : campsiteIds) {
+                if (isFreeInternal(campsiteId, startDate, endDate)) {
+                    candidates.add(new FreeSlot(campsiteId,
+                            freeNightsBefore(campsiteId, startDate), freeNightsAfter(campsiteId, endDate)));
+                }
+            }
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            chosen = strategy.choose(candidates).campsiteId();
+            mark(chosen, startDate, endDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TransactionCallbacks.onCompletion(
+                () -> { },
+                () -> rollBack(chosen, startDate, endDate));
+        return Optional.of(chosen);
+    }
+
+    /**
+     * 점유 해제 (트랜잭션 커밋 후 반영)
+     */
+    public void release(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        TransactionCallbacks.onCompletion(
+                () -> clear(campsiteId, startDate, endDate),
+                () -> { });
+    }
+
+    /**
+     * 예약 이동 (사이트/기간 변경)
+     * 기존 기간과 겹치는 날은 자기 자신의 점유이므로 충돌로 보지 않는다.
+     * 새 기간은 즉시 점유하고, 기존 기간은 커밋 후 해제한다.
+     *
+     * @return 이동 성공 여부 (false = 새 기간에 다른 예약이 있음)
+     */
+    public boolean move(Long fromCampsiteId, LocalDate fromStartDate, LocalDate fromEndDate,
+                        Long toCampsiteId, LocalDate toStartDate, LocalDate toEndDate) {
+        lock.writeLock().lock();
+        try {
+            BitSet conflicts = copyRange(occupancy, toCampsiteId, toStartDate, toEndDate);
+            if (fromCampsiteId.equals(toCampsiteId)) {
+                conflicts.clear(toIndex(fromStartDate), toIndex(fromEndDate) + 1);
+            }
+            if (!conflicts.isEmpty() || !isFreeIn(held, toCampsiteId, toStartDate, toEndDate)) {
+                return false;
+            }
+            mark(toCampsiteId, toStartDate, toEndDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TransactionCallbacks.onCompletion(
+                () -> {
+                    clear(fromCampsiteId, fromStartDate, fromEndDate);
+                    mark(toCampsiteId, toStartDate, toEndDate);
+                },
+                () -> {
+                    clear(toCampsiteId, toStartDate, toEndDate);
+                    mark(fromCampsiteId, fromStartDate, fromEndDate);
+                    availabilityCache.invalidateSearches(toStartDate, toEndDate);
+                });
+        return true;
+    }
+
+    /**
+     * 홀드 설정 (예약/다른 홀드와 겹치지 않을 때만)
+     * 트랜잭션과 무관하게 즉시 반영된다.
+     *
+     * @return 홀드 성공 여부
+     */
+    public boolean placeHold(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            if (!isFreeInternal(campsiteId, startDate, endDate)) {
+                return false;
+            }
+            held.computeIfAbsent(campsiteId, id -> new BitSet())
+                    .set(toIndex(startDate), toIndex(endDate) + 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 홀드 해제 (만료/취소)
+     */
+    public void releaseHold(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            clearIn(held, campsiteId, startDate, endDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 홀드를 예약 점유로 전환 (홀드 해제 + 점유를 원자적으로 수행)
+     * 롤백 시 되돌리기는 호출한 쪽(HoldService)이 revertHold로 처리한다.
+     */
+    public void convertHold(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            clearIn(held, campsiteId, startDate, endDate);
+            mark(campsiteId, startDate, endDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * convertHold 되돌리기 (점유 해제 + 홀드 복원)
+     */
+    public void revertHold(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            clear(campsiteId, startDate, endDate);
+            held.computeIfAbsent(campsiteId, id -> new BitSet())
+                    .set(toIndex(startDate), toIndex(endDate) + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 롤백된 선점 해제 + 커밋 전에 이 점유를 보고 캐시된 검색 결과 제거
+     */
+    private void rollBack(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        clear(campsiteId, startDate, endDate);
+        availabilityCache.invalidateSearches(startDate, endDate);
+    }
+
+    private boolean isFreeInternal(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        return isFreeIn(occupancy, campsiteId, startDate, endDate)
+                && isFreeIn(held, campsiteId, startDate, endDate);
+    }
+
+    private static boolean isFreeIn(Map<Long, BitSet> layer, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        BitSet nights = layer.get(campsiteId);
+        if (nights == null) {
+            return true;
+        }
+        int next = nights.nextSetBit(toIndex(startDate));
+        return next < 0 || next > toIndex(endDate);
+    }
+
+    /**
+     * 시작일 직전까지 연속으로 비어 있는 박 수 (최대 FREE_RUN_HORIZON)
+     */
+    private int freeNightsBefore(Long campsiteId, LocalDate startDate) {
+        int start = toIndex(startDate);
+        int lastBusy = Math.max(previousSetBit(occupancy, campsiteId, start - 1),
+                previousSetBit(held, campsiteId, start - 1));
+        return lastBusy < 0 ? FREE_RUN_HORIZON : Math.min(start - lastBusy - 1, FREE_RUN_HORIZON);
+    }
+
+    /**
+     * 종료일 다음날부터 연속으로 비어 있는 박 수 (최대 FREE_RUN_HORIZON)
+     */
+    private int freeNightsAfter(Long campsiteId, LocalDate endDate) {
+        int end = toIndex(endDate);
+        int nextBusy = minSetBit(nextSetBit(occupancy, campsiteId, end + 1), nextSetBit(held, campsiteId, end + 1));
+        return nextBusy < 0 ? FREE_RUN_HORIZON : Math.min(nextBusy - end - 1, FREE_RUN_HORIZON);
+    }
+
+    private static int previousSetBit(Map<Long, BitSet> layer, Long campsiteId, int from) {
+        BitSet nights = layer.get(campsiteId);
+        return nights == null ? -1 : nights.previousSetBit(from);
+    }
+
+    private static int nextSetBit(Map<Long, BitSet> layer, Long campsiteId, int from) {
+        BitSet nights = layer.get(campsiteId);
+        return nights == null ? -1 : nights.nextSetBit(from);
+    }
+
+    private static int minSetBit(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        return b < 0 ? a : Math.min(a, b);
+    }
+
+    private static BitSet copyRange(Map<Long, BitSet> layer, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        BitSet nights = layer.get(campsiteId);
+        BitSet range = new BitSet();
+        if (nights != null) {
+            int from = toIndex(startDate);
+            int to = toIndex(endDate) + 1;
+            for (int i = nights.nextSetBit(from); i >= 0 && i < to; i = nights.nextSetBit(i + 1)) {
+                range.set(i);
+            }
+        }
+        return range;
+    }
+
+    private void mark(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            occupancy.computeIfAbsent(campsiteId, id -> new BitSet())
+                    .set(toIndex(startDate), toIndex(endDate) + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.writeLock().lock();
+        try {
+            clearIn(occupancy, campsiteId, startDate, endDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void clearIn(Map<Long, BitSet> layer, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        BitSet nights = layer.get(campsiteId);
+        if (nights != null) {
+            nights.clear(toIndex(startDate), toIndex(endDate) + 1);
+        }
+    }
+
+    private static int toIndex(LocalDate date) {
+        if (date.isBefore(INDEX_ORIGIN)) {
+            throw new RuntimeException(INDEX_ORIGIN + " 이전 날짜는 조회하거나 예약할 수 없습니다.");
+        }
+        return Math.toIntExact(ChronoUnit.DAYS.between(INDEX_ORIGIN, date));
+    }
+
+    /**
+     * 자동 배정 후보 (요청 기간 앞뒤로 이어지는 빈 박 수 포함)
+     */
+    public record FreeSlot(Long campsiteId, int freeNightsBefore, int freeNightsAfter) {
+
+        public int surroundingFreeNights() {
+            return freeNightsBefore + freeNightsAfter;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClass;
 import com.camping.legacy.util.DateUtils;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +14,7 @@ import java.time.LocalDate;
  * - 주말 할증: 30% 추가
  * - 성수기 할증: 50% 추가 (7-8월)
  * - 성수기 주말: 70% 추가
+ * - 사이트 번호로 계산할 때는 카탈로그에 저장된 사이트 종류를 사용
  */
 @Component
 public class PriceCalculator {
@@ -24,20 +27,17 @@ public class PriceCalculator {
     private static final double SURCHARGE_PEAK_SEASON = 1.5;       // 성수기 50%
     private static final double SURCHARGE_PEAK_WEEKEND = 1.7;      // 성수기 주말 70%
 
+    private final CampsiteCatalog campsiteCatalog;
+
+    public PriceCalculator(CampsiteCatalog campsiteCatalog) {
+        this.campsiteCatalog = campsiteCatalog;
+    }
+
     /**
      * 예약 가격 계산
      */
     public int calculate(LocalDate startDate, LocalDate endDate, String siteNumber) {
-        int totalPrice = 0;
-        LocalDate current = startDate;
-
-        while (!current.isAfter(endDate)) {
-            int dailyPrice = calculateDailyPrice(current, siteNumber);
-            totalPrice += dailyPrice;
-            current = current.plusDays(1);
-        }
-
-        return totalPrice;
+        return calculate(startDate, endDate, siteClassOf(siteNumber));
     }
 
     /**
@@ -47,30 +47,55 @@ public class PriceCalculator {
         return calculate(
                 reservation.getStartDate(),
                 reservation.getEndDate(),
-                reservation.getCampsite().getSiteNumber()
+                reservation.getCampsite().getSiteClass()
         );
     }
 
+    /**
+     * 사이트 종류로 가격 계산
+     */
+    public int calculate(LocalDate startDate, LocalDate endDate, SiteClass siteClass) {
+        int basePrice = getBasePrice(siteClass);
+        int totalPrice = 0;
+        LocalDate current = startDate;
+
+        while (!current.isAfter(endDate)) {
+            totalPrice += applyPriceSurcharge(basePrice, current);
+            current = current.plusDays(1);
+        }
+
+        return totalPrice;
+    }
+
     /**
      * 일별 가격 계산 (기본가 + 할증)
      */
     public int calculateDailyPrice(LocalDate date, String siteNumber) {
-        int basePrice = getBasePrice(siteNumber);
+        int basePrice = getBasePrice(siteClassOf(siteNumber));
         return applyPriceSurcharge(basePrice, date);
     }
 
     /**
      * 사이트 종류별 기본 가격
      */
-    public int getBasePrice(String siteNumber) {
-        if (siteNumber.startsWith("A")) {
+    public int getBasePrice(SiteClass siteClass) {
+        if (siteClass == SiteClass.LARGE) {
             return PRICE_LARGE;
-        } else if (siteNumber.startsWith("B")) {
+        } else if (siteClass == SiteClass.SMALL) {
             return PRICE_SMALL;
         }
         return PRICE_DEFAULT;
     }
 
+    /**
+     * 저장된 사이트 종류 (없는 사이트는 기타 요금)
+     */
+    private SiteClass siteClassOf(String siteNumber) {
+        return campsiteCatalog.findBySiteNumber(siteNumber)
+                .map(Campsite::getSiteClass)
+                .orElse(null);
+    }
+
     /**
      * 할증 적용
      */
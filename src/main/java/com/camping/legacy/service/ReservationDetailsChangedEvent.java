@@ -0,0 +1,9 @@
+package com.camping.legacy.service;
+
+import java.time.LocalDate;
+
+/**
+ * 기간은 그대로이고 예약자 정보만 바뀜 (캘린더 캐시 무효화용, 커밋 후 처리)
+ */
+public record ReservationDetailsChangedEvent(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,111 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.ExportProperties;
+import com.camping.legacy.repository.ReservationExportRepository;
+import com.camping.legacy.repository.ReservationExportRepository.ExportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 예약 내보내기 (CSV / NDJSON)
+ *
+ * 커서에서 읽은 행을 바로 응답에 쓰고 일정 행마다 flush 하므로
+ * 전체 건수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    private static final String CSV_HEADER =
+            "id,customerName,phoneNumber,siteNumber,startDate,endDate,status,confirmationCode,totalPrice,earnedPoints,createdAt";
+
+    private final ReservationExportRepository reservationExportRepository;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청을 검증한 뒤 응답 본문을 쓰는 작업을 돌려줌 (실제 조회는 응답을 쓸 때 실행)
+     */
+    public StreamingResponseBody export(ExportFormat format, LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                write(format, from, to, writer);
+            } catch (UncheckedIOException e) {
+                // 응답 쓰기 실패 (클라이언트 연결 끊김 등), 커서는 조회 중단과 함께 닫힘
+                log.warn("예약 내보내기 중단: {}", e.getCause().getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private void write(ExportFormat format, LocalDate from, LocalDate to, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        int flushEvery = Math.max(1, exportProperties.getFlushEveryRows());
+        int[] written = {0};
+        reservationExportRepository.forEach(from, to, exportProperties.getFetchSize(), row -> {
+            try {
+                writer.write(format == ExportFormat.CSV ? toCsv(row) : toJson(row));
+                writer.write('\n');
+                if (++written[0] % flushEvery == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String toCsv(ExportRow row) {
+        return String.join(",",
+                String.valueOf(row.id()),
+                csv(row.customerName()),
+                csv(row.phoneNumber()),
+                csv(row.siteNumber()),
+                String.valueOf(row.startDate()),
+                String.valueOf(row.endDate()),
+                csv(row.status()),
+                csv(row.confirmationCode()),
+                row.totalPrice() != null ? String.valueOf(row.totalPrice()) : "",
+                row.earnedPoints() != null ? String.valueOf(row.earnedPoints()) : "",
+                row.createdAt() != null ? row.createdAt().toString() : "");
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+     */
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private String toJson(ExportRow row) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(row);
+    }
+}
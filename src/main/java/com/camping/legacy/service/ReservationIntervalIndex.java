@@ -0,0 +1,174 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.repository.ReservationInterval;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사이트별 확정 예약 구간 트리 (인메모리)
+ *
+ * - 사이트마다 IntervalTree 하나에 확정(CONFIRMED) 예약의 기간과 ID를 저장
+ * - 기간 겹침 조회를 DB 쿼리 없이 O(log n + 결과 수)로 처리
+ * - 변경은 트랜잭션 커밋 후 반영 (커밋된 예약만 조회됨)
+ *
+ * 예약 가능 여부 판단(선점)은 OccupancyIndex가 담당하고, 이 색인은 조회 전용이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationIntervalIndex {
+
+    private static final String STATUS_CONFIRMED = "CONFIRMED";
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<Long, IntervalTree<Long>> trees = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 색인 전체 재구성 (DB를 직접 수정한 경우 등)
+     */
+    public void reload() {
+        List<ReservationInterval> intervals = reservationRepository.findIntervalsByStatus(STATUS_CONFIRMED);
+
+        lock.writeLock().lock();
+        try {
+            trees.clear();
+            entries.clear();
+            for (ReservationInterval interval : intervals) {
+                if (interval.getStartDate() == null || interval.getEndDate() == null) {
+                    continue;
+                }
+                insert(new Entry(interval.getId(), interval.getCampsiteId(),
+                        interval.getStartDate(), interval.getEndDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("예약 구간 색인 로딩 완료: 사이트 {}개, 예약 {}건", trees.size(), entries.size());
+    }
+
+    /**
+     * 확정 예약 등록/기간 변경 (커밋 후 반영, 같은 예약이 있으면 교체)
+     */
+    public void confirmed(Reservation reservation) {
+        Entry entry = new Entry(reservation.getId(), reservation.getCampsite().getId(),
+                reservation.getStartDate(), reservation.getEndDate());
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(entry.reservationId());
+                insert(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 확정 예약 제거 (취소 등, 커밋 후 반영)
+     */
+    public void released(Long reservationId) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(reservationId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 사이트의 기간과 겹치는 확정 예약이 있는지
+     */
+    public boolean hasOverlap(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            IntervalTree<Long> tree = trees.get(campsiteId);
+            return tree != null && !tree.findOverlapping(startDate, endDate).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사이트의 기간과 겹치는 확정 예약 ID (시작일 순)
+     */
+    public List<Long> findOverlapping(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            IntervalTree<Long> tree = trees.get(campsiteId);
+            return tree == null ? new ArrayList<>() : tree.findOverlapping(startDate, endDate);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 사이트에서 기간과 겹치는 확정 예약 ID
+     */
+    public List<Long> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (IntervalTree<Long> tree : trees.values()) {
+                ids.addAll(tree.findOverlapping(startDate, endDate));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry entry) {
+        trees.computeIfAbsent(entry.campsiteId(), id -> new IntervalTree<>())
+                .insert(entry.reservationId(), entry.startDate(), entry.endDate(), entry.reservationId());
+        entries.put(entry.reservationId(), entry);
+    }
+
+    private void delete(Long reservationId) {
+        Entry entry = entries.remove(reservationId);
+        if (entry == null) {
+            return;
+        }
+        IntervalTree<Long> tree = trees.get(entry.campsiteId());
+        if (tree != null) {
+            tree.remove(entry.reservationId(), entry.startDate());
+            if (tree.isEmpty()) {
+                trees.remove(entry.campsiteId());
+            }
+        }
+    }
+
+    private record Entry(Long reservationId, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+    }
+}
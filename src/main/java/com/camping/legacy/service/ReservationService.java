@@ -1,27 +1,42 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.config.BookingMode;
+import com.camping.legacy.config.BookingProperties;
 import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClass;
 import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.dto.HoldResponse;
 import com.camping.legacy.dto.ReservationRequest;
 import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
+import com.camping.legacy.dto.SiteCalendarMatrixResponse;
+import com.camping.legacy.repository.CalendarReservation;
 import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.DailyOccupancyRepository;
+import com.camping.legacy.repository.ReservationBatchRepository;
+import com.camping.legacy.repository.ReservationNightRepository;
+import com.camping.legacy.repository.ReservationPeriod;
+import com.camping.legacy.repository.ReservationReportRepository;
 import com.camping.legacy.repository.ReservationRepository;
-import com.camping.legacy.util.DateUtils;
 import com.camping.legacy.util.StringUtils;
 import com.camping.legacy.util.ValidationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -52,24 +67,257 @@ public class ReservationService {
     private final CampsiteRepository campsiteRepository;
     private final PriceCalculator priceCalculator;
     private final PointCalculator pointCalculator;
+    private final OccupancyIndex occupancyIndex;
+    private final ReservationNightRepository reservationNightRepository;
+    private final ReservationBatchRepository reservationBatchRepository;
+    private final BookingProperties bookingProperties;
+    private final NotificationOutbox notificationOutbox;
+    private final ConfirmationCodeGenerator confirmationCodeGenerator;
+    private final HoldService holdService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SiteService siteService;
+    private final ReservationIntervalIndex reservationIntervalIndex;
+    private final SiteAttributeIndex siteAttributeIndex;
+    private final AvailabilityCache availabilityCache;
+    private final CampsiteCatalog campsiteCatalog;
+    private final DailyOccupancyRepository dailyOccupancyRepository;
+    private final ReservationReportRepository reservationReportRepository;
 
     private static final int MAX_RESERVATION_DAYS = 30;
+    private static final int MAX_BATCH_SITES = 20;
     
     /**
-     * 예약 생성 (절차적 방식)
+     * 예약 생성
+     * 검증/점유(prepare) → 지연 → 저장/알림(persist) 순으로 처리
+     */
+    public ReservationResponse createReservation(ReservationRequest request) {
+        PreparedReservation prepared = prepareReservation(request);
+
+        // ============================================================
+        // STEP 7: 동시성 문제 재현을 위한 지연
+        // ============================================================
+        simulateProcessingDelay();
+
+        return persistReservation(prepared);
+    }
+
+    /**
+     * 홀드 확정 (홀드한 사이트/기간으로 예약 생성)
+     * 사이트/기간은 홀드 정보를 사용하고, 고객 정보만 요청에서 받는다.
+     */
+    public ReservationResponse confirmHold(String holdId, ReservationRequest request) {
+        HoldResponse hold = holdService.getHold(holdId);
+        ReservationRequest holdRequest = new ReservationRequest(
+                request.getCustomerName(), hold.getStartDate(), hold.getEndDate(), hold.getSiteNumber(),
+                request.getPhoneNumber(), request.getNumberOfPeople(), request.getCarNumber(), request.getRequests());
+
+        PreparedReservation prepared = prepareReservation(holdRequest, holdId);
+        simulateProcessingDelay();
+        return persistReservation(prepared);
+    }
+
+    /**
+     * 여러 예약 요청을 하나의 트랜잭션으로 처리 (그룹 커밋)
+     * - 요청별 검증/충돌 실패는 해당 요청만 실패 처리
+     * - 저장 단계에서 실패하면 그룹 전체가 롤백된다 (호출 측에서 개별 처리로 재시도)
+     */
+    public List<ReservationResult> createReservationGroup(List<ReservationRequest> requests) {
+        List<ReservationResult> results = new ArrayList<>();
+        List<PreparedReservation> preparedList = new ArrayList<>();
+        List<Integer> preparedIndexes = new ArrayList<>();
+
+        for (ReservationRequest request : requests) {
+            try {
+                preparedList.add(prepareReservation(request));
+                preparedIndexes.add(results.size());
+                results.add(null);
+            } catch (RuntimeException e) {
+                results.add(ReservationResult.failure(request.getSiteNumber(), e.getMessage()));
+            }
+        }
+
+        if (!preparedList.isEmpty()) {
+            // 지연은 요청마다가 아니라 트랜잭션마다 한 번
+            simulateProcessingDelay();
+        }
+
+        for (int i = 0; i < preparedList.size(); i++) {
+            ReservationResponse response = persistReservation(preparedList.get(i));
+            results.set(preparedIndexes.get(i), ReservationResult.success(response));
+        }
+        return results;
+    }
+
+    /**
+     * 단체 예약 (여러 사이트를 한 번에 예약, 전부 성공 또는 전부 실패)
+     * - 사이트를 번호 순으로 한 번에 잠가 교착 상태를 피함
+     * - 모든 요청 기간의 충돌을 한 번의 쿼리로 확인
+     * - 예약과 예약 박 원장을 JDBC 배치로 저장
+     */
+    public List<ReservationResult> createReservationBatch(List<ReservationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new RuntimeException("예약할 사이트를 선택해주세요.");
+        }
+        if (requests.size() > MAX_BATCH_SITES) {
+            throw new RuntimeException("한 번에 최대 " + MAX_BATCH_SITES + "개 사이트까지 예약할 수 있습니다.");
+        }
+
+        // 사이트 잠금 (사이트 번호 순서 고정)
+        List<String> siteNumbers = requests.stream()
+                .map(ReservationRequest::getSiteNumber)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        Map<String, Campsite> campsites = siteNumbers.isEmpty() ? new HashMap<>()
+                : campsiteRepository.findAllBySiteNumberInWithLock(siteNumbers).stream()
+                        .collect(Collectors.toMap(Campsite::getSiteNumber, c -> c));
+
+        // 요청별 검증
+        Map<Integer, String> failures = new HashMap<>();
+        LocalDate minStartDate = null;
+        LocalDate maxEndDate = null;
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest request = requests.get(i);
+            try {
+                if (request.getSiteNumber() == null || request.getSiteNumber().trim().isEmpty()) {
+                    throw new RuntimeException("사이트 번호를 입력해주세요.");
+                }
+                if (!campsites.containsKey(request.getSiteNumber())) {
+                    throw new RuntimeException("존재하지 않는 캠핑장입니다.");
+                }
+                validateReservationDetails(request);
+                for (int j = 0; j < i; j++) {
+                    ReservationRequest other = requests.get(j);
+                    if (request.getSiteNumber().equals(other.getSiteNumber())
+                            && other.getStartDate() != null && other.getEndDate() != null
+                            && !request.getStartDate().isAfter(other.getEndDate())
+                            && !request.getEndDate().isBefore(other.getStartDate())) {
+                        throw new RuntimeException("같은 사이트의 기간이 요청 안에서 겹칩니다.");
+                    }
+                }
+            } catch (RuntimeException e) {
+                failures.put(i, e.getMessage());
+                continue;
+            }
+            minStartDate = minStartDate == null || request.getStartDate().isBefore(minStartDate)
+                    ? request.getStartDate() : minStartDate;
+            maxEndDate = maxEndDate == null || request.getEndDate().isAfter(maxEndDate)
+                    ? request.getEndDate() : maxEndDate;
+        }
+
+        // 기존 예약과의 충돌 (쿼리 1회)
+        if (minStartDate != null) {
+            List<Long> campsiteIds = campsites.values().stream()
+                    .map(Campsite::getId)
+                    .collect(Collectors.toList());
+            List<ReservationPeriod> existing = reservationRepository.findPeriodsOverlapping(
+                    campsiteIds, minStartDate, maxEndDate, "CONFIRMED");
+            for (int i = 0; i < requests.size(); i++) {
+                if (failures.containsKey(i)) {
+                    continue;
+                }
+                ReservationRequest request = requests.get(i);
+                Long campsiteId = campsites.get(request.getSiteNumber()).getId();
+                boolean conflict = existing.stream().anyMatch(period -> period.getCampsiteId().equals(campsiteId)
+                        && !period.getStartDate().isAfter(request.getEndDate())
+                        && !period.getEndDate().isBefore(request.getStartDate()));
+                if (conflict) {
+                    failures.put(i, "해당 기간에 이미 예약이 존재합니다.");
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new GroupReservationException(buildFailureResults(requests, failures));
+        }
+
+        // 점유 비트맵 반영 (단건 예약 경로와 일관성 유지, 롤백 시 자동 해제)
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest request = requests.get(i);
+            Campsite campsite = campsites.get(request.getSiteNumber());
+            if (!occupancyIndex.reserve(campsite.getId(), request.getStartDate(), request.getEndDate())) {
+                failures.put(i, "해당 기간에 이미 예약이 존재합니다.");
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new GroupReservationException(buildFailureResults(requests, failures));
+        }
+
+        List<PreparedReservation> preparedList = new ArrayList<>();
+        for (ReservationRequest request : requests) {
+            int totalPrice = priceCalculator.calculate(request.getStartDate(), request.getEndDate(),
+                    campsites.get(request.getSiteNumber()).getSiteClass());
+            int earnedPoints = pointCalculator.calculate(request.getStartDate(), request.getEndDate(), totalPrice);
+            Reservation reservation = buildReservation(request, campsites.get(request.getSiteNumber()), totalPrice, earnedPoints);
+            preparedList.add(new PreparedReservation(reservation, totalPrice, earnedPoints));
+        }
+
+        simulateProcessingDelay();
+
+        // JDBC 배치 저장
+        List<Reservation> reservations = preparedList.stream()
+                .map(PreparedReservation::reservation)
+                .collect(Collectors.toList());
+        try {
+            reservationBatchRepository.insertAll(reservations);
+        } catch (DataIntegrityViolationException e) {
+            if (ConfirmationCodeGenerator.isCollision(e)) {
+                throw new ConfirmationCodeCollisionException(e);
+            }
+            throw e;
+        }
+        try {
+            reservationNightRepository.insertNights(reservations);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+        }
+        dailyOccupancyRepository.add(reservations);
+        reservations.forEach(reservationIntervalIndex::confirmed);
+        reservations.forEach(this::publishBooked);
+        log.info("단체 예약 저장 완료: {}건", reservations.size());
+
+        notificationOutbox.enqueueAll(preparedList.stream()
+                .map(prepared -> NotificationMessage.confirmation(
+                        prepared.reservation(), prepared.totalPrice(), prepared.earnedPoints()))
+                .collect(Collectors.toList()));
+
+        return preparedList.stream()
+                .map(prepared -> ReservationResult.success(ReservationResponse.from(prepared.reservation())))
+                .collect(Collectors.toList());
+    }
+
+    private List<ReservationResult> buildFailureResults(List<ReservationRequest> requests, Map<Integer, String> failures) {
+        List<ReservationResult> results = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String message = failures.getOrDefault(i, "다른 사이트의 예약 실패로 함께 취소되었습니다.");
+            results.add(ReservationResult.failure(requests.get(i).getSiteNumber(), message));
+        }
+        return results;
+    }
+
+    /**
+     * 예약 검증 + 기간 점유 + 가격/포인트 계산 + 예약 객체 생성 (절차적 방식)
      * - 긴 메서드 (100+ 줄)
      * - 깊은 중첩
      * - 모든 로직을 한 곳에
      */
-    public ReservationResponse createReservation(ReservationRequest request) {
+    private PreparedReservation prepareReservation(ReservationRequest request) {
+        return prepareReservation(request, null);
+    }
+
+    private PreparedReservation prepareReservation(ReservationRequest request, String holdId) {
         // ============================================================
         // STEP 1: 입력 데이터 추출
         // ============================================================
         String siteNumber = request.getSiteNumber();
         LocalDate startDate = request.getStartDate();
         LocalDate endDate = request.getEndDate();
-        String customerName = request.getCustomerName();
-        String phoneNumber = request.getPhoneNumber();
+
+        // 사이트 종류만 지정한 경우 빈 사이트 자동 배정
+        if (holdId == null && (siteNumber == null || siteNumber.trim().isEmpty())
+                && request.getSiteClass() != null && !request.getSiteClass().trim().isEmpty()) {
+            return prepareAssignedReservation(request);
+        }
 
         // ============================================================
         // STEP 2: 기본 검증
@@ -77,9 +325,86 @@ public class ReservationService {
         if (siteNumber == null || siteNumber.trim().isEmpty()) {
             throw new RuntimeException("사이트 번호를 입력해주세요.");
         }
-        // 사이트 존재 여부 확인 (Pessimistic Lock으로 동시성 제어)
-        Campsite campsite = campsiteRepository.findBySiteNumberWithLock(siteNumber)
+        // 사이트 존재 여부 확인
+        // 사이트 행 잠금 대신 reservation_nights 유니크 제약으로 중복 예약을 막음
+        // → 같은 사이트라도 기간이 다르면 병렬 처리 가능
+        Campsite campsite = findCampsiteForBooking(siteNumber)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+
+        // ============================================================
+        // STEP 3: 예약 기간 / 고객 정보 검증
+        // ============================================================
+        validateReservationDetails(request);
+
+        // ============================================================
+        // STEP 4: 예약 가능 여부 확인 (점유 비트맵 검사 + 선점, 롤백 시 자동 해제)
+        //         홀드 확정이면 홀드를 점유로 전환
+        // ============================================================
+        if (holdId != null) {
+            holdService.consume(holdId, campsite.getId(), startDate, endDate);
+        } else if (!occupancyIndex.reserve(campsite.getId(), startDate, endDate)) {
+            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+        }
+
+        // ============================================================
+        // STEP 5: 가격 계산
+        // ============================================================
+        int totalPrice = priceCalculator.calculate(startDate, endDate, campsite.getSiteClass());
+        log.info("예약 금액 계산 완료: {}원", totalPrice);
+
+        // ============================================================
+        // STEP 6: 포인트 계산
+        // ============================================================
+        int earnedPoints = pointCalculator.calculate(startDate, endDate, totalPrice);
+        log.info("적립 포인트 계산 완료: {}P", earnedPoints);
+
+        // ============================================================
+        // STEP 8: 예약 객체 생성
+        // ============================================================
+        Reservation reservation = buildReservation(request, campsite, totalPrice, earnedPoints);
+
+        return new PreparedReservation(reservation, totalPrice, earnedPoints);
+    }
+
+    /**
+     * 사이트 종류 예약 (해당 종류 사이트 중 기간 전체가 빈 사이트를 배정 전략으로 골라 점유)
+     * 후보 검사와 점유를 점유 비트맵 잠금 안에서 한 번에 처리하므로,
+     * 해당 종류에 맞는 사이트가 하나라도 남아 있으면 실패하지 않는다.
+     */
+    private PreparedReservation prepareAssignedReservation(ReservationRequest request) {
+        SiteClass siteClass = SiteClass.fromName(request.getSiteClass())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 사이트 종류입니다."));
+        validateReservationDetails(request);
+
+        List<Campsite> candidates = siteAttributeIndex.find(SiteQuery.ofSize(siteClass.getLabel()));
+        Map<Long, Campsite> candidatesById = candidates.stream()
+                .collect(Collectors.toMap(Campsite::getId, c -> c));
+        Long campsiteId = occupancyIndex.reserveAny(
+                        candidates.stream().map(Campsite::getId).collect(Collectors.toList()),
+                        request.getStartDate(), request.getEndDate(),
+                        SiteAssignmentStrategy.of(bookingProperties.getAssignment()))
+                .orElseThrow(() -> new RuntimeException(
+                        "해당 기간에 예약 가능한 " + siteClass.getLabel() + " 사이트가 없습니다."));
+
+        String siteNumber = candidatesById.get(campsiteId).getSiteNumber();
+        Campsite campsite = findCampsiteForBooking(siteNumber)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+        log.info("사이트 자동 배정: {} → {}", siteClass.getLabel(), siteNumber);
+
+        int totalPrice = priceCalculator.calculate(request.getStartDate(), request.getEndDate(), campsite.getSiteClass());
+        int earnedPoints = pointCalculator.calculate(request.getStartDate(), request.getEndDate(), totalPrice);
+        Reservation reservation = buildReservation(request, campsite, totalPrice, earnedPoints);
+        return new PreparedReservation(reservation, totalPrice, earnedPoints);
+    }
+
+    /**
+     * 예약 기간/고객 정보 검증
+     */
+    private void validateReservationDetails(ReservationRequest request) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        String customerName = request.getCustomerName();
+        String phoneNumber = request.getPhoneNumber();
 
         // 날짜 검증
         if (startDate == null || endDate == null) {
@@ -103,9 +428,7 @@ public class ReservationService {
             throw new RuntimeException("예약 기간은 최대 30일입니다.");
         }
 
-        // ============================================================
-        // STEP 3: 고객 정보 검증
-        // ============================================================
+        // 고객 정보 검증
         if (customerName == null || customerName.trim().isEmpty()) {
             throw new RuntimeException("예약자 이름을 입력해주세요.");
         }
@@ -134,138 +457,80 @@ public class ReservationService {
                 throw new RuntimeException("전화번호는 숫자만 입력 가능합니다.");
             }
         }
+    }
 
-        // ============================================================
-        // STEP 4: 예약 가능 여부 확인
-        // ============================================================
-        boolean hasConflict = reservationRepository.hasOverlappingReservation(
-                campsite, startDate, endDate, "CONFIRMED");
-        if (hasConflict) {
-            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
-        }
-
-        // ============================================================
-        // STEP 5: 가격 계산
-        // ============================================================
-        int totalPrice = 0;
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            int dailyPrice = 0;
-
-            // 사이트 종류별 기본 가격
-            if (siteNumber.startsWith("A")) {
-                dailyPrice = 80000; // 대형
-            } else if (siteNumber.startsWith("B")) {
-                dailyPrice = 50000; // 소형
-            } else {
-                dailyPrice = 60000; // 기타
-            }
-
-            // 주말 체크
-            java.time.DayOfWeek dayOfWeek = current.getDayOfWeek();
-            boolean isWeekend = (dayOfWeek == java.time.DayOfWeek.SATURDAY ||
-                               dayOfWeek == java.time.DayOfWeek.SUNDAY);
-
-            // 성수기 체크 (7월, 8월)
-            int month = current.getMonthValue();
-            boolean isPeakSeason = (month >= 7 && month <= 8);
-
-            // 할증 적용
-            if (isWeekend && isPeakSeason) {
-                dailyPrice = (int) (dailyPrice * 1.7); // 70% 할증
-            } else if (isPeakSeason) {
-                dailyPrice = (int) (dailyPrice * 1.5); // 50% 할증
-            } else if (isWeekend) {
-                dailyPrice = (int) (dailyPrice * 1.3); // 30% 할증
-            }
-
-            totalPrice += dailyPrice;
-            current = current.plusDays(1);
-        }
-
-        log.info("예약 금액 계산 완료: {}원", totalPrice);
-
-        // ============================================================
-        // STEP 6: 포인트 계산
-        // ============================================================
-        double pointRate = 0.05; // 기본 5%
-        current = startDate;
-        boolean hasWeekend = false;
-        while (!current.isAfter(endDate)) {
-            java.time.DayOfWeek dayOfWeek = current.getDayOfWeek();
-            if (dayOfWeek == java.time.DayOfWeek.SATURDAY ||
-                dayOfWeek == java.time.DayOfWeek.SUNDAY) {
-                hasWeekend = true;
-                break;
-            }
-            current = current.plusDays(1);
-        }
-
-        if (hasWeekend) {
-            pointRate = 0.10; // 주말 10%
-        }
-
-        int earnedPoints = (int) (totalPrice * pointRate);
-        log.info("적립 포인트 계산 완료: {}P", earnedPoints);
-
-        // ============================================================
-        // STEP 7: 동시성 문제 재현을 위한 지연
-        // ============================================================
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        // ============================================================
-        // STEP 8: 예약 객체 생성
-        // ============================================================
+    /**
+     * 예약 객체 생성 + 확인 코드 발급 (중복은 유니크 인덱스로 검출)
+     * 금액/포인트는 예약 시점 값으로 함께 저장
+     */
+    private Reservation buildReservation(ReservationRequest request, Campsite campsite, int totalPrice, int earnedPoints) {
         Reservation reservation = new Reservation();
-        reservation.setCustomerName(customerName);
-        reservation.setStartDate(startDate);
-        reservation.setEndDate(endDate);
+        reservation.setCustomerName(request.getCustomerName());
+        reservation.setStartDate(request.getStartDate());
+        reservation.setEndDate(request.getEndDate());
         reservation.setReservationDate(LocalDate.now());
         reservation.setCampsite(campsite);
-        reservation.setPhoneNumber(phoneNumber);
+        reservation.setPhoneNumber(request.getPhoneNumber());
+        reservation.setTotalPrice(totalPrice);
+        reservation.setEarnedPoints(earnedPoints);
 
-        // 확인 코드 생성
-        String confirmationCode = "";
-        Random random = new Random();
-        for (int i = 0; i < 6; i++) {
-            int choice = random.nextInt(36);
+        reservation.setConfirmationCode(confirmationCodeGenerator.next());
 
-            if (choice < 10) {
-                confirmationCode += (char) ('0' + choice);
-            } else {
-                confirmationCode += (char) ('A' + (choice - 10));
-            }
-        }
-        reservation.setConfirmationCode(confirmationCode);
+        return reservation;
+    }
+
+    /**
+     * 준비된 예약 저장 + 알림
+     */
+    private ReservationResponse persistReservation(PreparedReservation prepared) {
+        Reservation reservation = prepared.reservation();
 
         // ============================================================
         // STEP 9: 예약 저장
         // ============================================================
-        reservationRepository.save(reservation);
+        try {
+            reservationRepository.save(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (ConfirmationCodeGenerator.isCollision(e)) {
+                throw new ConfirmationCodeCollisionException(e);
+            }
+            throw e;
+        }
+        recordNights(reservation);
+        dailyOccupancyRepository.add(List.of(reservation));
+        reservationIntervalIndex.confirmed(reservation);
+        publishBooked(reservation);
         log.info("예약 저장 완료: ID={}", reservation.getId());
 
         // ============================================================
-        // STEP 10: 알림 발송 (시뮬레이션)
+        // STEP 10: 알림 발송 (아웃박스 기록, 실제 발송은 커밋 후 NotificationDispatcher)
         // ============================================================
-        log.info("===========================================");
-        log.info("[예약 확인 알림]");
-        log.info("고객명: {}", reservation.getCustomerName());
-        log.info("전화번호: {}", reservation.getPhoneNumber());
-        log.info("예약 기간: {} ~ {}", reservation.getStartDate(), reservation.getEndDate());
-        log.info("확인 코드: {}", reservation.getConfirmationCode());
-        log.info("결제 금액: {}원", totalPrice);
-        log.info("적립 포인트: {}P", earnedPoints);
-        log.info("===========================================");
+        notifyReservationConfirmed(prepared);
 
         // ============================================================
         // STEP 11: 응답 객체 생성 (정적 팩터리 메서드)
         // ============================================================
         return ReservationResponse.from(reservation);
     }
+
+    private void notifyReservationConfirmed(PreparedReservation prepared) {
+        notificationOutbox.enqueue(NotificationMessage.confirmation(
+                prepared.reservation(), prepared.totalPrice(), prepared.earnedPoints()));
+    }
+
+    private void simulateProcessingDelay() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 검증/점유가 끝나고 저장만 남은 예약
+     */
+    private record PreparedReservation(Reservation reservation, int totalPrice, int earnedPoints) {
+    }
     
     @Transactional(readOnly = true)
     public ReservationResponse getReservation(Long id) {
@@ -273,15 +538,25 @@ public class ReservationService {
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
         return ReservationResponse.from(reservation);
     }
+
+    /**
+     * 확인 코드로 예약 조회 (유니크 인덱스 사용)
+     */
+    @Transactional(readOnly = true)
+    public ReservationResponse getReservationByConfirmationCode(String confirmationCode) {
+        Reservation reservation = reservationRepository.findByConfirmationCode(confirmationCode)
+                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+        return ReservationResponse.from(reservation);
+    }
     
     @Transactional(readOnly = true)
     public List<ReservationResponse> getReservationsByDate(LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findAll().stream()
-                .filter(r -> r.getStartDate() != null && r.getEndDate() != null)
-                .filter(r -> !date.isBefore(r.getStartDate()) && !date.isAfter(r.getEndDate()))
-                .collect(Collectors.toList());
+        // 전체 예약을 읽어 거르는 대신 구간 색인에서 해당 날짜의 확정 예약 ID만 조회
+        List<Reservation> reservations = reservationRepository.findAllById(
+                reservationIntervalIndex.findOverlapping(date, date));
         
         return reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getId))
                 .map(ReservationResponse::from)
                 .collect(Collectors.toList());
     }
@@ -301,6 +576,8 @@ public class ReservationService {
             throw new RuntimeException("확인 코드가 일치하지 않습니다.");
         }
         
+        boolean wasConfirmed = "CONFIRMED".equals(reservation.getStatus());
+
         LocalDate today = LocalDate.now();
         if (reservation.getStartDate().equals(today)) {
             reservation.setStatus("CANCELLED_SAME_DAY");
@@ -309,6 +586,27 @@ public class ReservationService {
         }
         
         reservationRepository.save(reservation);
+
+        // 확정 상태였던 예약만 점유 해제 (재취소 시 다른 예약의 점유를 지우지 않도록)
+        if (wasConfirmed) {
+            reservationNightRepository.deleteByReservationId(reservation.getId());
+            dailyOccupancyRepository.remove(reservation);
+            occupancyIndex.release(reservation.getCampsite().getId(),
+                    reservation.getStartDate(), reservation.getEndDate());
+            reservationIntervalIndex.released(reservation.getId());
+            eventPublisher.publishEvent(AvailabilityChangedEvent.released(
+                    reservation.getCampsite().getId(), reservation.getCampsite().getSiteNumber(),
+                    reservation.getStartDate(), reservation.getEndDate()));
+        }
+    }
+
+    /**
+     * 예약으로 점유된 기간을 실시간 스트림에 알림 (커밋 후 전달)
+     */
+    private void publishBooked(Reservation reservation) {
+        eventPublisher.publishEvent(AvailabilityChangedEvent.booked(
+                reservation.getCampsite().getId(), reservation.getCampsite().getSiteNumber(),
+                reservation.getStartDate(), reservation.getEndDate()));
     }
     
     // 고객 이름으로 예약 조회
@@ -388,8 +686,12 @@ public class ReservationService {
             }
         }
 
+        Campsite currentCampsite = reservation.getCampsite();
+        LocalDate currentStartDate = reservation.getStartDate();
+        LocalDate currentEndDate = reservation.getEndDate();
+
         if (request.getSiteNumber() != null) {
-            Campsite campsite = campsiteRepository.findBySiteNumber(request.getSiteNumber())
+            Campsite campsite = findCampsiteForBooking(request.getSiteNumber())
                     .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
             reservation.setCampsite(campsite);
         }
@@ -401,6 +703,33 @@ public class ReservationService {
             reservation.setEndDate(request.getEndDate());
         }
 
+        // 시작일/종료일 중 하나만 바뀐 경우 재검증
+        if (reservation.getEndDate().isBefore(reservation.getStartDate())) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+
+        // 사이트/기간이 바뀐 확정 예약은 점유 비트맵에서 이동 (충돌 시 실패)
+        boolean periodChanged = !currentCampsite.getId().equals(reservation.getCampsite().getId())
+                || !currentStartDate.equals(reservation.getStartDate())
+                || !currentEndDate.equals(reservation.getEndDate());
+        if (periodChanged && "CONFIRMED".equals(reservation.getStatus())) {
+            boolean moved = occupancyIndex.move(
+                    currentCampsite.getId(), currentStartDate, currentEndDate,
+                    reservation.getCampsite().getId(), reservation.getStartDate(), reservation.getEndDate());
+            if (!moved) {
+                throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+            }
+            reservationNightRepository.deleteByReservationId(reservation.getId());
+            recordNights(reservation);
+            dailyOccupancyRepository.move(currentCampsite.getSiteClass(), currentStartDate, currentEndDate, reservation);
+            reservationIntervalIndex.confirmed(reservation);
+            eventPublisher.publishEvent(AvailabilityChangedEvent.released(
+                    currentCampsite.getId(), currentCampsite.getSiteNumber(), currentStartDate, currentEndDate));
+            publishBooked(reservation);
+        }
+
+        boolean nameChanged = request.getCustomerName() != null
+                && !request.getCustomerName().equals(reservation.getCustomerName());
         if (request.getCustomerName() != null) {
             reservation.setCustomerName(request.getCustomerName());
         }
@@ -408,8 +737,23 @@ public class ReservationService {
             reservation.setPhoneNumber(request.getPhoneNumber());
         }
 
+        // 사이트/기간이 바뀌면 저장된 금액/포인트도 새 기간 기준으로 갱신
+        if (periodChanged) {
+            int totalPrice = priceCalculator.calculate(reservation);
+            reservation.setTotalPrice(totalPrice);
+            reservation.setEarnedPoints(pointCalculator.calculate(reservation.getStartDate(), reservation.getEndDate(), totalPrice));
+        }
+
         Reservation updated = reservationRepository.save(reservation);
 
+        // 캘린더에 표시되는 예약자/기간이 바뀌면 캘린더 캐시 무효화 (확정 예약의 기간 변경은 위 점유 이벤트로 처리됨)
+        if (nameChanged || periodChanged) {
+            eventPublisher.publishEvent(new ReservationDetailsChangedEvent(
+                    currentCampsite.getId(), currentStartDate, currentEndDate));
+            eventPublisher.publishEvent(new ReservationDetailsChangedEvent(
+                    updated.getCampsite().getId(), updated.getStartDate(), updated.getEndDate()));
+        }
+
         // DTO 변환 로직 중복 - 직접 변환
         ReservationResponse response = new ReservationResponse();
         response.setId(updated.getId());
@@ -504,13 +848,16 @@ public class ReservationService {
         // ============================================================
         // 4. 가격 계산 (중복 로직)
         // ============================================================
+        SiteClass siteClass = campsiteCatalog.findBySiteNumber(reservationResponse.getSiteNumber())
+                .map(Campsite::getSiteClass)
+                .orElse(null);
         int totalPrice = 0;
         LocalDate current = request.getStartDate();
         while (!current.isAfter(request.getEndDate())) {
             int dailyPrice = 0;
-            if (request.getSiteNumber().startsWith("A")) {
+            if (siteClass == SiteClass.LARGE) {
                 dailyPrice = 80000;
-            } else if (request.getSiteNumber().startsWith("B")) {
+            } else if (siteClass == SiteClass.SMALL) {
                 dailyPrice = 50000;
             } else {
                 dailyPrice = 60000;
@@ -636,14 +983,29 @@ public class ReservationService {
         return result;
     }
 
-    private String generateConfirmationCode() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        Random random = new Random();
-        StringBuilder code = new StringBuilder();
-        for (int i = 0; i < 6; i++) {
-            code.append(chars.charAt(random.nextInt(chars.length())));
+    /**
+     * 예약용 사이트 조회
+     * OPTIMISTIC 모드에서는 커밋 시 사이트 버전을 올려 같은 사이트의 동시 변경을 감지한다.
+     * 그 외에는 사이트 행을 건드리지 않으므로 카탈로그에서 조회 (DB 접근 없음)
+     */
+    private Optional<Campsite> findCampsiteForBooking(String siteNumber) {
+        if (bookingProperties.getMode() == BookingMode.OPTIMISTIC) {
+            return campsiteRepository.findBySiteNumberWithVersionBump(siteNumber);
+        }
+        return campsiteCatalog.findBySiteNumber(siteNumber);
+    }
+
+    /**
+     * 예약 박 원장 기록
+     * 다른 예약이 이미 점유한 박이 있으면 유니크 제약 위반으로 실패한다.
+     */
+    private void recordNights(Reservation reservation) {
+        try {
+            reservationNightRepository.insertNights(reservation.getId(), reservation.getCampsite().getId(),
+                    reservation.getStartDate(), reservation.getEndDate());
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
         }
-        return code.toString();
     }
 
     //========================================
@@ -653,56 +1015,26 @@ public class ReservationService {
     /**
      * 월별 예약 캘린더 조회
      * CalendarService에서 이동됨 (2020-06-15)
+     * (사이트, 월) 단위로 캐시하고 해당 사이트/기간의 예약이 바뀌면 커밋 후 무효화
      */
     @Transactional(readOnly = true)
     public CalendarResponse getMonthlyCalendar(Integer year, Integer month, Long siteId) {
+        return availabilityCache.getMonthlyCalendar(siteId, YearMonth.of(year, month),
+                () -> buildMonthlyCalendar(year, month, siteId));
+    }
+
+    private CalendarResponse buildMonthlyCalendar(Integer year, Integer month, Long siteId) {
         // 사이트 조회
-        Campsite campsite = campsiteRepository.findById(siteId)
+        Campsite campsite = campsiteCatalog.findById(siteId)
                 .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
 
-        // 해당 월의 시작일과 종료일 계산
+        // 해당 사이트/월과 겹치는 확정 예약만 인덱스 범위 조회 후 일자 배열에 채움
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        // 모든 예약 조회 (성능 이슈 가능)
-        List<Reservation> allReservations = reservationRepository.findAll();
-        Map<LocalDate, Reservation> reservationMap = new HashMap<>();
-
-        // 예약 기간 내의 모든 날짜에 대해 예약 정보 추가
-        for (Reservation reservation : allReservations) {
-            if (reservation.getCampsite().getId().equals(siteId) &&
-                reservation.getStartDate() != null && reservation.getEndDate() != null) {
-                LocalDate current = reservation.getStartDate();
-                // 날짜를 하나씩 증가시키면서 맵에 추가
-                while (!current.isAfter(reservation.getEndDate()) && !current.isAfter(endDate)) {
-                    if (!current.isBefore(startDate)) {
-                        reservationMap.put(current, reservation);
-                    }
-                    current = current.plusDays(1);
-                }
-            }
-        }
-
-        // 일별 상태 생성
-        List<CalendarResponse.DayStatus> days = new ArrayList<>();
-        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
-            LocalDate date = yearMonth.atDay(day);
-            Reservation reservation = reservationMap.get(date);
-
-            days.add(CalendarResponse.DayStatus.builder()
-                    .date(date)
-                    .available(reservation == null)
-                    .customerName(reservation != null ? reservation.getCustomerName() : null)
-                    .reservationId(reservation != null ? reservation.getId() : null)
-                    .build());
-        }
+        MonthlyCalendar calendar = MonthlyCalendar.of(yearMonth, reservationRepository.findCalendarReservations(
+                siteId, yearMonth.atDay(1), yearMonth.atEndOfMonth(), "CONFIRMED"));
 
-        // 요약 정보 생성
-        Map<String, Integer> summary = new HashMap<>();
-        summary.put("totalDays", yearMonth.lengthOfMonth());
-        summary.put("reservedDays", reservationMap.size());
-        summary.put("availableDays", yearMonth.lengthOfMonth() - reservationMap.size());
+        List<CalendarResponse.DayStatus> days = calendar.days();
+        Map<String, Integer> summary = calendar.summary();
 
         return CalendarResponse.builder()
                 .year(year)
@@ -714,58 +1046,58 @@ public class ReservationService {
                 .build();
     }
 
+    /**
+     * 전체 사이트 월별 예약 캘린더 (프런트 데스크 대시보드용)
+     * 해당 월과 겹치는 확정 예약을 한 번의 범위 조회로 읽어 사이트별 일자 배열에 채움
+     */
+    @Transactional(readOnly = true)
+    public SiteCalendarMatrixResponse getAllSitesMonthlyCalendar(Integer year, Integer month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<Campsite> sites = campsiteCatalog.findAll();
+
+        Map<Long, MonthlyCalendar> calendars = new HashMap<>();
+        sites.forEach(site -> calendars.put(site.getId(), new MonthlyCalendar(yearMonth)));
+        for (CalendarReservation reservation : reservationRepository.findCalendarReservations(
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), "CONFIRMED")) {
+            MonthlyCalendar calendar = calendars.get(reservation.getCampsiteId());
+            if (calendar != null) {
+                calendar.add(reservation);
+            }
+        }
+
+        List<SiteCalendarMatrixResponse.Row> rows = new ArrayList<>(sites.size());
+        for (Campsite site : sites) {
+            MonthlyCalendar calendar = calendars.get(site.getId());
+            rows.add(new SiteCalendarMatrixResponse.Row(site.getId(), site.getSiteNumber(),
+                    calendar.reservationIds(), calendar.customerNames(), calendar.summary()));
+        }
+        return new SiteCalendarMatrixResponse(year, month, rows);
+    }
+
     //========================================
     // 통계 계산 기능
     //========================================
 
     /**
-     * 일별 예약 통계
+     * 일별 예약 통계 (일별 점유 집계에서 조회)
      * @param date 조회할 날짜
-     * @return 예약 수
+     * @return 그 날을 점유한 확정 예약 수
      */
     @Transactional(readOnly = true)
     public int getDailyReservationCount(LocalDate date) {
-        // 모든 예약을 가져와서 필터링 (비효율적)
-        List<Reservation> allReservations = reservationRepository.findAll();
-        int count = 0;
-
-        for (Reservation reservation : allReservations) {
-            if (reservation.getStartDate() != null && reservation.getEndDate() != null) {
-                // 날짜가 예약 기간에 포함되는지 확인
-                if (!date.isBefore(reservation.getStartDate()) && !date.isAfter(reservation.getEndDate())) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return dailyOccupancyRepository.sumOccupiedSites(date);
     }
 
     /**
-     * 월별 예약 통계
+     * 월별 예약 통계 (일별 점유 집계의 도착 수 합, 월 일수만큼만 읽음)
      * @param year 년도
      * @param month 월
-     * @return 예약 건수
+     * @return 해당 월에 시작하는 확정 예약 건수
      */
     @Transactional(readOnly = true)
     public int getMonthlyReservationCount(Integer year, Integer month) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        List<Reservation> allReservations = reservationRepository.findAll();
-        int count = 0;
-
-        // 해당 월에 시작하는 예약 카운트
-        for (Reservation r : allReservations) {
-            if (r.getStartDate() != null) {
-                if (!r.getStartDate().isBefore(startDate) && !r.getStartDate().isAfter(endDate)) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return dailyOccupancyRepository.sumArrivals(yearMonth.atDay(1), yearMonth.atEndOfMonth());
     }
 
     /**
@@ -774,27 +1106,12 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public double getCancellationRate() {
-        List<Reservation> allReservations = reservationRepository.findAll();
+        ReservationReportRepository.CancellationSummary summary = reservationReportRepository.summarizeCancellations();
 
-        if (allReservations.isEmpty()) {
+        if (summary.totalCount() == 0) {
             return 0.0;
         }
-
-        int totalCount = allReservations.size();
-        int cancelledCount = 0;
-
-        // 취소된 예약 카운트
-        for (Reservation r : allReservations) {
-            if (r.getStatus() != null) {
-                if (r.getStatus().equals("CANCELLED") || r.getStatus().equals("CANCELLED_SAME_DAY")) {
-                    cancelledCount++;
-                }
-            }
-        }
-
-        // 취소율 계산
-        double rate = (double) cancelledCount / totalCount;
-        return rate;
+        return (double) summary.cancelledCount() / summary.totalCount();
     }
 
     /**
@@ -809,27 +1126,27 @@ public class ReservationService {
         report.put("year", year);
         report.put("month", month);
 
-        // 예약 건수
-        int reservationCount = getMonthlyReservationCount(year, month);
-        report.put("reservationCount", reservationCount);
-
-        // 총 수익 계산
+        // 해당 월에 시작하는 확정 예약 (건수/수익/평균 기간 모두 같은 예약 기준)
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<Reservation> monthlyReservations = reservationRepository.findAll().stream()
-                .filter(r -> r.getStartDate() != null)
-                .filter(r -> !r.getStartDate().isBefore(startDate) && !r.getStartDate().isAfter(endDate))
-                .collect(Collectors.toList());
+        ReservationReportRepository.MonthlySummary summary =
+                reservationReportRepository.summarize("CONFIRMED", startDate, endDate);
 
-        int totalRevenue = 0;
-        for (Reservation r : monthlyReservations) {
-            // 가격 계산
-            int price = calculateReservationPrice(r.getStartDate(), r.getEndDate(), r.getCampsite().getSiteNumber());
-            totalRevenue += price;
+        // 예약 건수
+        report.put("reservationCount", (int) summary.reservationCount());
+
+        // 총 수익 계산 (저장된 금액 합계)
+        long totalRevenue = summary.pricedRevenue();
+        // 금액이 저장되기 전에 만들어진 예약만 계산
+        if (summary.unpricedCount() > 0) {
+            for (ReservationReportRepository.UnpricedReservation r
+                    : reservationReportRepository.findUnpriced("CONFIRMED", startDate, endDate)) {
+                totalRevenue += calculateReservationPrice(r.startDate(), r.endDate(), r.siteNumber());
+            }
         }
-        report.put("totalRevenue", totalRevenue);
+        report.put("totalRevenue", (int) totalRevenue);
 
         // 취소율
         double cancellationRate = getCancellationRate();
@@ -837,15 +1154,8 @@ public class ReservationService {
 
         // 평균 예약 기간
         double avgDays = 0.0;
-        if (!monthlyReservations.isEmpty()) {
-            long totalDays = 0;
-            for (Reservation r : monthlyReservations) {
-                if (r.getEndDate() != null) {
-                    long days = DateUtils.getDaysBetween(r.getStartDate(), r.getEndDate());
-                    totalDays += days;
-                }
-            }
-            avgDays = (double) totalDays / monthlyReservations.size();
+        if (summary.reservationCount() > 0) {
+            avgDays = (double) summary.totalNights() / summary.reservationCount();
         }
         report.put("averageReservationDays", avgDays);
 
@@ -889,81 +1199,47 @@ public class ReservationService {
     }
 
     //========================================
-    // 알림 발송 기능 (시뮬레이션)
+    // 알림 발송 기능 (아웃박스 기록 후 비동기 발송)
     //========================================
 
     /**
      * 예약 확인 알림 발송
-     * 실제 발송은 하지 않고 로깅만
+     * 아웃박스에만 기록하고 실제 발송은 커밋 후 NotificationDispatcher가 처리
      */
     public void sendReservationConfirmationNotification(Reservation reservation) {
-        // 이메일 발송 시뮬레이션
-        String email = "customer@example.com"; // 실제로는 고객 이메일
-        log.info("===========================================");
-        log.info("[이메일 발송]");
-        log.info("수신자: {}", email);
-        log.info("제목: 예약이 확인되었습니다 - {}", reservation.getConfirmationCode());
-        log.info("내용: {}님의 예약이 확인되었습니다.", reservation.getCustomerName());
-        log.info("예약 기간: {} ~ {}", reservation.getStartDate(), reservation.getEndDate());
-        log.info("===========================================");
-
-        // SMS 발송 시뮬레이션
-        String phone = reservation.getPhoneNumber();
-        if (phone != null && !phone.isEmpty()) {
-            log.info("[SMS 발송]");
-            log.info("수신 번호: {}", phone);
-            log.info("내용: [그린캠핑장] 예약이 완료되었습니다. 확인코드: {}", reservation.getConfirmationCode());
-            log.info("===========================================");
-        }
+        int totalPrice = priceCalculator.calculate(reservation);
+        int earnedPoints = pointCalculator.calculate(reservation.getStartDate(), reservation.getEndDate(), totalPrice);
+        notificationOutbox.enqueue(NotificationMessage.confirmation(reservation, totalPrice, earnedPoints));
     }
 
     /**
      * 예약 취소 알림 발송
      */
     public void sendCancellationNotification(Reservation reservation) {
-        log.info("===========================================");
-        log.info("[예약 취소 알림]");
-        log.info("고객명: {}", reservation.getCustomerName());
-        log.info("전화번호: {}", reservation.getPhoneNumber());
-        log.info("예약 번호: {}", reservation.getId());
-        log.info("취소 일시: {}", LocalDate.now());
-        log.info("===========================================");
+        notificationOutbox.enqueue(NotificationMessage.cancellation(reservation));
     }
 
     /**
      * 예약 전날 리마인드 알림
      */
     public void sendReminderNotification(Reservation reservation) {
-        log.info("===========================================");
-        log.info("[예약 리마인드 알림]");
-        log.info("{}님, 내일이 예약일입니다!", reservation.getCustomerName());
-        log.info("캠핑장: {} 사이트", reservation.getCampsite().getSiteNumber());
-        log.info("===========================================");
+        notificationOutbox.enqueue(NotificationMessage.reminder(reservation));
     }
 
     //========================================
-    // 예약 가능 여부 체크 (SiteService와 중복)
+    // 예약 가능 여부 체크 (SiteService.isPeriodFree에 위임)
     //========================================
 
     /**
      * 특정 사이트의 날짜별 예약 가능 여부 확인
-     * SiteService에도 유사한 메서드가 있음
      */
     @Transactional(readOnly = true)
     public boolean checkAvailability(String siteNumber, LocalDate date) {
-        // 사이트 조회
-        Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
-
-        // 해당 날짜에 예약이 있는지 확인
-        boolean hasReservation = reservationRepository.hasOverlappingReservation(
-                campsite, date, date, "CONFIRMED");
-
-        return !hasReservation;
+        return siteService.isPeriodFree(siteNumber, date, date);
     }
 
     /**
-     * 기간별 예약 가능 여부 확인
+     * 기간별 예약 가능 여부 확인 (날짜별 반복 조회 없이 범위 검사 한 번)
      */
     @Transactional(readOnly = true)
     public boolean checkPeriodAvailability(String siteNumber, LocalDate startDate, LocalDate endDate) {
@@ -975,20 +1251,6 @@ public class ReservationService {
             return false;
         }
 
-        // 사이트 조회
-        Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
-
-        // 기간 내 모든 날짜를 확인
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            boolean available = checkAvailability(siteNumber, current);
-            if (!available) {
-                return false;
-            }
-            current = current.plusDays(1);
-        }
-
-        return true;
+        return siteService.isPeriodFree(siteNumber, startDate, endDate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.SiteAssignmentPolicy;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자동 배정 시 후보 사이트 중 하나를 고르는 전략
+ * 후보는 모두 요청 기간 전체가 비어 있고, 사이트 번호 순으로 전달된다.
+ */
+@FunctionalInterface
+public interface SiteAssignmentStrategy {
+
+    OccupancyIndex.FreeSlot choose(List<OccupancyIndex.FreeSlot> candidates);
+
+    SiteAssignmentStrategy LOWEST_SITE_NUMBER = candidates -> candidates.get(0);
+
+    /**
+     * 앞뒤 빈 박 합이 가장 작은 사이트 (같으면 번호가 낮은 사이트)
+     * → 긴 빈 기간은 나중의 긴 예약을 위해 남겨둔다.
+     */
+    SiteAssignmentStrategy BEST_FIT = candidates -> candidates.stream()
+            .min(Comparator.comparingInt(OccupancyIndex.FreeSlot::surroundingFreeNights))
+            .orElseThrow();
+
+    static SiteAssignmentStrategy of(SiteAssignmentPolicy policy) {
+        return policy == SiteAssignmentPolicy.LOWEST_SITE_NUMBER ? LOWEST_SITE_NUMBER : BEST_FIT;
+    }
+}
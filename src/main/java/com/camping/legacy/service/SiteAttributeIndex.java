@@ -0,0 +1,117 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 사이트 속성 역색인 (인메모리 비트맵)
+ *
+ * - 사이트를 등록(ID) 순으로 0..n-1 위치에 두고, 속성값마다 해당 사이트 위치의 BitSet을 유지
+ * - 검색 조건은 비트맵 AND로 처리 → 사이트마다 문자열 비교를 반복하지 않음
+ * - 최소 인원 조건은 수용 인원별 비트맵을 OR해서 처리
+ * - 스냅샷은 불변이며 사이트가 바뀌면(커밋 후) 다음 조회에서 사이트 카탈로그로부터 다시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteAttributeIndex {
+
+    private final CampsiteCatalog campsiteCatalog;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 조건에 맞는 사이트 (등록 순)
+     */
+    public List<Campsite> find(SiteQuery query) {
+        Snapshot current = current();
+        BitSet matches = new BitSet();
+        matches.set(0, current.sites().size());
+
+        if (query.size() != null) {
+            matches.and(current.bySize().getOrDefault(query.size(), new BitSet()));
+        }
+        if (query.hasElectricity() != null) {
+            if (query.hasElectricity()) {
+                matches.and(current.electricity());
+            } else {
+                matches.andNot(current.electricity());
+            }
+        }
+        if (query.zone() != null) {
+            matches.and(current.byZone().getOrDefault(query.zone(), new BitSet()));
+        }
+        if (query.minPeople() != null) {
+            BitSet fits = new BitSet();
+            current.byMaxPeople().tailMap(query.minPeople(), true).values().forEach(fits::or);
+            matches.and(fits);
+        }
+
+        List<Campsite> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(current.sites().get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 다음 조회 때 다시 구성 (구성 중이면 끝날 때까지 기다렸다가 버림)
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build(campsiteCatalog.findAll());
+                    snapshot = current;
+                    log.debug("사이트 속성 색인 구성: {}개", current.sites().size());
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot build(List<Campsite> campsites) {
+        List<Campsite> sites = new ArrayList<>(campsites);
+        sites.sort(Comparator.comparing(Campsite::getId));
+
+        Map<String, BitSet> bySize = new HashMap<>();
+        BitSet electricity = new BitSet();
+        Map<String, BitSet> byZone = new HashMap<>();
+        NavigableMap<Integer, BitSet> byMaxPeople = new TreeMap<>();
+        for (int i = 0; i < sites.size(); i++) {
+            Campsite site = sites.get(i);
+            bySize.computeIfAbsent(site.getSizeLabel(), key -> new BitSet()).set(i);
+            if (Boolean.TRUE.equals(site.getHasElectricity())) {
+                electricity.set(i);
+            }
+            if (site.getZone() != null) {
+                byZone.computeIfAbsent(site.getZone(), key -> new BitSet()).set(i);
+            }
+            if (site.getMaxPeople() != null) {
+                byMaxPeople.computeIfAbsent(site.getMaxPeople(), key -> new BitSet()).set(i);
+            }
+        }
+        return new Snapshot(List.copyOf(sites), bySize, electricity, byZone, byMaxPeople);
+    }
+
+    private record Snapshot(List<Campsite> sites, Map<String, BitSet> bySize, BitSet electricity,
+                            Map<String, BitSet> byZone, NavigableMap<Integer, BitSet> byMaxPeople) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.camping.legacy.service;
+
+/**
+ * 사이트 속성 조건 (null인 조건은 적용하지 않음)
+ *
+ * @param size           크기 표시명 (대형/소형/일반)
+ * @param hasElectricity 전기 사용 가능 여부
+ * @param zone           구역 (A, B ...)
+ * @param minPeople      최소 수용 인원 (maxPeople이 이 값 이상인 사이트)
+ */
+public record SiteQuery(String size, Boolean hasElectricity, String zone, Integer minPeople) {
+
+    public static SiteQuery all() {
+        return new SiteQuery(null, null, null, null);
+    }
+
+    public static SiteQuery ofSize(String size) {
+        return new SiteQuery(size, null, null, null);
+    }
+}
@@ -1,18 +1,24 @@
 package com.camping.legacy.service;
 
 import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.dto.AvailabilityMatrixResponse;
+import com.camping.legacy.dto.FlexibleSearchRequest;
+import com.camping.legacy.dto.FlexibleSearchResult;
 import com.camping.legacy.dto.SiteAvailabilityResponse;
 import com.camping.legacy.dto.SiteResponse;
 import com.camping.legacy.dto.SiteSearchRequest;
-import com.camping.legacy.repository.CampsiteRepository;
-import com.camping.legacy.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,44 +26,29 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SiteService {
     
-    private final CampsiteRepository campsiteRepository;
-    private final ReservationRepository reservationRepository;
+    private final CampsiteCatalog campsiteCatalog;
+    private final OccupancyIndex occupancyIndex;
+    private final SiteAttributeIndex siteAttributeIndex;
+    private final AvailabilityCache availabilityCache;
+
+    private static final int MAX_MATRIX_DAYS = 62;
+    private static final int MAX_FLEXIBLE_SEARCH_DAYS = 184;
+    private static final int MAX_RESERVATION_NIGHTS = 30;
     
     public List<SiteResponse> getAllSites() {
-        return campsiteRepository.findAll().stream()
+        return campsiteCatalog.findAll().stream()
                 .map(SiteResponse::from)
                 .collect(Collectors.toList());
     }
     
     public SiteResponse getSiteById(Long siteId) {
-        Campsite campsite = campsiteRepository.findById(siteId)
+        Campsite campsite = campsiteCatalog.findById(siteId)
                 .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
         return SiteResponse.from(campsite);
     }
     
     public List<SiteAvailabilityResponse> getAvailableSites(LocalDate date) {
-        List<Campsite> allSites = campsiteRepository.findAll();
-        List<SiteAvailabilityResponse> responses = new ArrayList<>();
-        
-        for (Campsite site : allSites) {
-            boolean isAvailable = !reservationRepository.hasOverlappingReservation(
-                    site, date, date, "CONFIRMED");
-            
-            responses.add(SiteAvailabilityResponse.builder()
-                    .siteId(site.getId())
-                    .siteNumber(site.getSiteNumber())
-                    .size(site.getSiteNumber().startsWith("A") ? "대형" : "소형")
-                    .hasElectricity(site.getSiteNumber().startsWith("A"))
-                    .date(date)
-                    .available(isAvailable)
-                    .maxPeople(site.getMaxPeople())
-                    .description(site.getDescription())
-                    .build());
-        }
-        
-        return responses.stream()
-                .filter(SiteAvailabilityResponse::getAvailable)
-                .collect(Collectors.toList());
+        return findAvailableSites(SiteQuery.all(), date, date);
     }
     
     public List<SiteAvailabilityResponse> searchAvailableSites(SiteSearchRequest request) {
@@ -79,83 +70,171 @@ public class SiteService {
             throw new RuntimeException("과거 날짜는 검색할 수 없습니다.");
         }
 
-        List<Campsite> allSites = campsiteRepository.findAll();
-        List<SiteAvailabilityResponse> availableSites = new ArrayList<>();
-
-        for (Campsite site : allSites) {
-            // 크기 필터링 (하드코딩)
-            if (request.getSize() != null) {
-                String siteSize = "";
-                if (site.getSiteNumber().startsWith("A")) {
-                    siteSize = "대형";
-                } else if (site.getSiteNumber().startsWith("B")) {
-                    siteSize = "소형";
-                } else {
-                    siteSize = "일반";
-                }
-
-                if (!siteSize.equals(request.getSize())) {
-                    continue;
-                }
-            }
-
-            boolean isAvailable = !reservationRepository.hasOverlappingReservation(
-                    site, request.getStartDate(), request.getEndDate(), "CONFIRMED");
-
-            if (isAvailable) {
-                // 사이트 크기 결정 (중복된 로직)
-                String size = "";
-                if (site.getSiteNumber().startsWith("A")) {
-                    size = "대형";
-                } else if (site.getSiteNumber().startsWith("B")) {
-                    size = "소형";
-                } else {
-                    size = "일반";
-                }
+        SiteQuery query = new SiteQuery(
+                request.getSize(), request.getHasElectricity(), request.getZone(), request.getMaxPeople());
+        return findAvailableSites(query, startDate, endDate);
+    }
 
-                // 전기 사용 가능 여부 (하드코딩)
-                boolean hasElectricity = false;
-                if (site.getSiteNumber().startsWith("A")) {
-                    hasElectricity = true;
-                }
+    /**
+     * 조건에 맞는 빈 사이트 (기간 + 조건별 캐시, 예약 변경 커밋 시 겹치는 기간만 무효화)
+     * 속성 필터는 예약 데이터를 보기 전에 역색인 비트맵 교집합으로 적용
+     */
+    private List<SiteAvailabilityResponse> findAvailableSites(SiteQuery query, LocalDate startDate, LocalDate endDate) {
+        return availabilityCache.getAvailableSites(startDate, endDate, query,
+                () -> findAvailableSites(siteAttributeIndex.find(query), startDate, endDate));
+    }
 
-                availableSites.add(SiteAvailabilityResponse.builder()
+    /**
+     * 후보 사이트 중 기간 전체가 빈 사이트 (사이트 번호 순서 유지)
+     * 사이트마다 COUNT 쿼리를 보내는 대신 점유 비트맵에서 한 번에 조회
+     * → 사이트 수가 늘어도 예약 조회 쿼리는 없음
+     */
+    private List<SiteAvailabilityResponse> findAvailableSites(List<Campsite> sites, LocalDate startDate, LocalDate endDate) {
+        Set<Long> freeSiteIds = occupancyIndex.findFree(
+                sites.stream().map(Campsite::getId).collect(Collectors.toList()), startDate, endDate);
+
+        return sites.stream()
+                .filter(site -> freeSiteIds.contains(site.getId()))
+                .map(site -> SiteAvailabilityResponse.builder()
                         .siteId(site.getId())
                         .siteNumber(site.getSiteNumber())
-                        .size(size)
-                        .hasElectricity(hasElectricity)
-                        .date(request.getStartDate())
+                        .size(site.getSizeLabel())
+                        .hasElectricity(site.getHasElectricity())
+                        .date(startDate)
                         .available(true)
                         .maxPeople(site.getMaxPeople())
                         .description(site.getDescription())
-                        .build());
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사이트 × 날짜 예약 가능 여부 (사이트당 한 줄의 비트 문자열)
+     * 점유 비트맵을 한 번의 잠금으로 복사해 전체 격자를 계산
+     */
+    public AvailabilityMatrixResponse getAvailabilityMatrix(LocalDate from, LocalDate to, String size) {
+        if (from == null || to == null) {
+            throw new RuntimeException("조회 기간을 선택해주세요.");
+        }
+        if (to.isBefore(from)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_MATRIX_DAYS) {
+            throw new RuntimeException("조회 기간은 최대 " + MAX_MATRIX_DAYS + "일입니다.");
+        }
+
+        List<Campsite> sites = siteAttributeIndex.find(SiteQuery.ofSize(size));
+        Map<Long, BitSet> occupied = occupancyIndex.findOccupiedNights(
+                sites.stream().map(Campsite::getId).collect(Collectors.toList()), from, to);
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        List<AvailabilityMatrixResponse.Row> rows = new ArrayList<>(sites.size());
+        for (Campsite site : sites) {
+            BitSet nights = occupied.get(site.getId());
+            char[] availability = new char[days];
+            for (int day = 0; day < days; day++) {
+                availability[day] = nights.get(day) ? '0' : '1';
             }
+            rows.add(new AvailabilityMatrixResponse.Row(site.getSiteNumber(), site.getSizeLabel(), new String(availability)));
         }
+        return new AvailabilityMatrixResponse(from, to, rows);
+    }
 
-        return availableSites;
+    /**
+     * 유연한 날짜 검색 (기간 안의 모든 N박 빈 구간)
+     * 사이트별 점유 비트를 한 번에 복사한 뒤, 빈 구간(연속된 0 비트)마다 N박이 들어가는 시작일을 모두 나열
+     * → 후보 구간마다 조회하지 않고 사이트당 기간 길이만큼만 훑는다.
+     * N박은 예약 검증과 같은 기준(종료일 - 시작일)이므로 시작일~시작일+N, N+1일이 모두 비어 있어야 한다.
+     */
+    public List<FlexibleSearchResult> searchFlexibleDates(FlexibleSearchRequest request) {
+        LocalDate earliestStart = request.getEarliestStart();
+        LocalDate latestEnd = request.getLatestEnd();
+        Integer nights = request.getNights();
+
+        if (earliestStart == null || latestEnd == null) {
+            throw new RuntimeException("검색 기간을 선택해주세요.");
+        }
+        if (latestEnd.isBefore(earliestStart)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        if (earliestStart.isBefore(LocalDate.now())) {
+            throw new RuntimeException("과거 날짜는 검색할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(earliestStart, latestEnd) >= MAX_FLEXIBLE_SEARCH_DAYS) {
+            throw new RuntimeException("검색 기간은 최대 " + MAX_FLEXIBLE_SEARCH_DAYS + "일입니다.");
+        }
+        if (nights == null || nights < 1 || nights > MAX_RESERVATION_NIGHTS) {
+            throw new RuntimeException("숙박 일수는 1~" + MAX_RESERVATION_NIGHTS + "박 사이로 입력해주세요.");
+        }
+
+        List<Campsite> sites = siteAttributeIndex.find(SiteQuery.ofSize(request.getSize()));
+        Map<Long, BitSet> occupied = occupancyIndex.findOccupiedNights(
+                sites.stream().map(Campsite::getId).collect(Collectors.toList()), earliestStart, latestEnd);
+
+        int days = (int) ChronoUnit.DAYS.between(earliestStart, latestEnd) + 1;
+        Set<DayOfWeek> startDays = request.getStartDays();
+        List<FlexibleSearchResult> results = new ArrayList<>();
+        for (Campsite site : sites) {
+            BitSet nightsTaken = occupied.get(site.getId());
+            String size = site.getSizeLabel();
+            for (int runStart = nightsTaken.nextClearBit(0); runStart < days; ) {
+                int runEnd = Math.min(nextSetBit(nightsTaken, runStart), days);
+                for (int start = runStart; start + nights < runEnd; start++) {
+                    LocalDate startDate = earliestStart.plusDays(start);
+                    if (startDays == null || startDays.isEmpty() || startDays.contains(startDate.getDayOfWeek())) {
+                        results.add(new FlexibleSearchResult(site.getSiteNumber(), size,
+                                startDate, startDate.plusDays(nights)));
+                    }
+                }
+                runStart = nightsTaken.nextClearBit(runEnd);
+            }
+        }
+        return results;
+    }
+
+    private static int nextSetBit(BitSet bits, int from) {
+        int next = bits.nextSetBit(from);
+        return next < 0 ? Integer.MAX_VALUE : next;
     }
     
     public boolean isAvailable(String siteNumber, LocalDate date) {
-        // 사이트 번호 검증 (중복 코드)
+        return checkPeriodAvailability(siteNumber, date, date);
+    }
+
+    /**
+     * 기간 예약 가능 여부 조회 (입력 검증 포함)
+     */
+    public boolean checkPeriodAvailability(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        // 사이트 번호 검증
         if (siteNumber == null || siteNumber.trim().isEmpty()) {
             throw new RuntimeException("사이트 번호를 입력해주세요.");
         }
 
-        // 날짜 검증 (중복 코드)
-        if (date == null) {
+        // 날짜 검증
+        if (startDate == null || endDate == null) {
             throw new RuntimeException("날짜를 선택해주세요.");
         }
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
 
         // 과거 날짜 체크
         LocalDate today = LocalDate.now();
-        if (date.isBefore(today)) {
+        if (startDate.isBefore(today)) {
             throw new RuntimeException("과거 날짜는 조회할 수 없습니다.");
         }
 
-        Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
+        return isPeriodFree(siteNumber, startDate, endDate);
+    }
+
+    /**
+     * 사이트의 기간 전체가 비어 있는지 확인 (ReservationService와 공용)
+     * 사이트는 한 번만 조회하고, 기간은 점유 비트맵 범위 검사 한 번으로 판단
+     */
+    public boolean isPeriodFree(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        Campsite campsite = campsiteCatalog.findBySiteNumber(siteNumber)
                 .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다: " + siteNumber));
 
-        return !reservationRepository.hasOverlappingReservation(
-                campsite, date, date, "CONFIRMED");
+        return occupancyIndex.isFree(campsite.getId(), startDate, endDate);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,312 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.SiteClass;
+import com.camping.legacy.domain.WaitlistEntry;
+import com.camping.legacy.dto.HoldRequest;
+import com.camping.legacy.dto.HoldResponse;
+import com.camping.legacy.dto.WaitlistRequest;
+import com.camping.legacy.dto.WaitlistResponse;
+import com.camping.legacy.repository.WaitlistEntryRepository;
+import com.camping.legacy.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 예약 대기열
+ *
+ * - 대기 요청은 waitlist_entries에 저장하고, 대기 중(WAITING)인 요청은 사이트/사이트 종류별 구간 트리에 색인
+ * - 점유가 풀리면(예약 취소/변경, 홀드 만료/취소, 커밋 후) 전용 스레드가 비워진 기간과 겹치는 대기 요청을 등록 순서대로 확인
+ * - 기간 전체가 비어 있으면 홀드를 잡아 배정(OFFERED)하고 알림 발송 → 고객은 홀드 확정으로 예약
+ *   → 고객이 빈 자리를 반복 조회할 필요가 없음
+ * - 배정된 홀드가 확정 없이 풀리면 해당 요청은 EXPIRED, 풀린 기간은 다음 대기 요청에 배정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private static final String STATUS_WAITING = "WAITING";
+    private static final String STATUS_OFFERED = "OFFERED";
+    private static final String STATUS_CANCELLED = "CANCELLED";
+    private static final String STATUS_EXPIRED = "EXPIRED";
+    private static final int MAX_WAITLIST_DAYS = 30;
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final CampsiteCatalog campsiteCatalog;
+    private final HoldService holdService;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, IntervalTree<Candidate>> waiting = new HashMap<>();
+    private ExecutorService allocator;
+
+    @PostConstruct
+    void start() {
+        allocator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-allocator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        allocator.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 대기 중인 요청으로 색인 재구성
+     */
+    public synchronized void reload() {
+        waiting.clear();
+        List<WaitlistEntry> entries = waitlistEntryRepository.findByStatusOrderByIdAsc(STATUS_WAITING);
+        entries.forEach(entry -> index(Candidate.from(entry)));
+        log.info("예약 대기열 로딩 완료: {}건", entries.size());
+    }
+
+    /**
+     * 대기 등록
+     */
+    @Transactional
+    public WaitlistResponse join(WaitlistRequest request) {
+        boolean bySite = request.getSiteNumber() != null && !request.getSiteNumber().trim().isEmpty();
+        boolean byClass = request.getSiteClass() != null && !request.getSiteClass().trim().isEmpty();
+        if (bySite == byClass) {
+            throw new RuntimeException("사이트 번호와 사이트 종류 중 하나만 입력해주세요.");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        if (bySite) {
+            campsiteCatalog.findBySiteNumber(request.getSiteNumber())
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+            entry.setSiteNumber(request.getSiteNumber());
+        } else {
+            entry.setSiteClass(SiteClass.fromName(request.getSiteClass())
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 사이트 종류입니다.")));
+        }
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate == null || endDate == null) {
+            throw new RuntimeException("예약 기간을 선택해주세요.");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new RuntimeException("과거 날짜로 예약할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_WAITLIST_DAYS) {
+            throw new RuntimeException("예약 기간은 최대 30일입니다.");
+        }
+        if (request.getCustomerName() == null || request.getCustomerName().trim().isEmpty()) {
+            throw new RuntimeException("예약자 이름을 입력해주세요.");
+        }
+
+        entry.setStartDate(startDate);
+        entry.setEndDate(endDate);
+        entry.setCustomerName(request.getCustomerName());
+        entry.setPhoneNumber(request.getPhoneNumber());
+        waitlistEntryRepository.save(entry);
+
+        Candidate candidate = Candidate.from(entry);
+        TransactionCallbacks.afterCommit(() -> indexSynchronized(candidate));
+        return WaitlistResponse.from(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistResponse getEntry(Long id) {
+        return WaitlistResponse.from(findEntry(id));
+    }
+
+    /**
+     * 대기 취소 (배정 전만 가능)
+     */
+    @Transactional
+    public void leave(Long id) {
+        WaitlistEntry entry = findEntry(id);
+        if (!STATUS_WAITING.equals(entry.getStatus())) {
+            throw new RuntimeException("대기 중인 요청만 취소할 수 있습니다.");
+        }
+        entry.setStatus(STATUS_CANCELLED);
+        Candidate candidate = Candidate.from(entry);
+        TransactionCallbacks.afterCommit(() -> unindex(candidate));
+    }
+
+    /**
+     * 점유 해제 커밋 후 대기열 배정 (요청 스레드를 막지 않도록 전용 스레드에서 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (!AvailabilityChangedEvent.RELEASED.equals(event.change())) {
+            return;
+        }
+        allocator.execute(() -> {
+            try {
+                allocate(event.siteNumber(), event.startDate(), event.endDate());
+            } catch (RuntimeException e) {
+                log.error("예약 대기열 배정 중 오류", e);
+            }
+        });
+    }
+
+    /**
+     * 배정한 홀드가 확정 없이 풀리면 대기 요청 만료
+     * (풀린 기간은 뒤따르는 점유 해제 이벤트로 다음 대기 요청에 배정됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHoldReleased(HoldReleasedEvent event) {
+        allocator.execute(() -> {
+            try {
+                expireOffer(event.holdId());
+            } catch (RuntimeException e) {
+                log.error("예약 대기 배정 만료 처리 중 오류", e);
+            }
+        });
+    }
+
+    /**
+     * 비워진 기간과 겹치는 대기 요청을 등록 순서대로 배정
+     */
+    void allocate(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        for (Candidate candidate : findCandidates(siteNumber, startDate, endDate)) {
+            if (candidate.startDate().isBefore(LocalDate.now())) {
+                expire(candidate);
+                continue;
+            }
+            String offeredSiteNumber = candidate.siteNumber() != null ? candidate.siteNumber() : siteNumber;
+            HoldResponse hold;
+            try {
+                hold = holdService.createHold(new HoldRequest(offeredSiteNumber, candidate.startDate(), candidate.endDate()));
+            } catch (RuntimeException e) {
+                // 요청 기간 중 아직 예약된 날이 남아 있음
+                continue;
+            }
+            offer(candidate, hold);
+        }
+    }
+
+    /**
+     * 배정된 홀드가 풀린 대기 요청을 만료 처리
+     */
+    void expireOffer(String holdId) {
+        transactionTemplate.executeWithoutResult(status -> waitlistEntryRepository
+                .findByHoldIdAndStatus(holdId, STATUS_OFFERED)
+                .ifPresent(entry -> {
+                    entry.setStatus(STATUS_EXPIRED);
+                    log.info("예약 대기 배정 만료: 대기 ID={}, 홀드={}", entry.getId(), holdId);
+                }));
+    }
+
+    private synchronized List<Candidate> findCandidates(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        List<Candidate> candidates = new ArrayList<>();
+        collect(siteKey(siteNumber), startDate, endDate, candidates);
+        campsiteCatalog.findBySiteNumber(siteNumber)
+                .map(Campsite::getSiteClass)
+                .ifPresent(siteClass -> collect(classKey(siteClass), startDate, endDate, candidates));
+        candidates.sort(Comparator.comparing(Candidate::id));
+        return candidates;
+    }
+
+    private void collect(String key, LocalDate startDate, LocalDate endDate, List<Candidate> candidates) {
+        IntervalTree<Candidate> tree = waiting.get(key);
+        if (tree != null) {
+            candidates.addAll(tree.findOverlapping(startDate, endDate));
+        }
+    }
+
+    private void offer(Candidate candidate, HoldResponse hold) {
+        unindex(candidate);
+        boolean offered = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            WaitlistEntry entry = waitlistEntryRepository.findById(candidate.id()).orElse(null);
+            if (entry == null || !STATUS_WAITING.equals(entry.getStatus())) {
+                return false;
+            }
+            entry.setStatus(STATUS_OFFERED);
+            entry.setOfferedSiteNumber(hold.getSiteNumber());
+            entry.setHoldId(hold.getHoldId());
+            entry.setHoldExpiresAt(hold.getExpiresAt());
+            notificationOutbox.enqueue(NotificationMessage.waitlistOffer(entry));
+            return true;
+        }));
+        if (offered) {
+            log.info("예약 대기 배정: 대기 ID={}, 사이트={}, {} ~ {}",
+                    candidate.id(), hold.getSiteNumber(), candidate.startDate(), candidate.endDate());
+        } else {
+            holdService.releaseHold(hold.getHoldId());
+        }
+    }
+
+    private void expire(Candidate candidate) {
+        unindex(candidate);
+        transactionTemplate.executeWithoutResult(status -> waitlistEntryRepository.findById(candidate.id())
+                .filter(entry -> STATUS_WAITING.equals(entry.getStatus()))
+                .ifPresent(entry -> entry.setStatus(STATUS_EXPIRED)));
+    }
+
+    private WaitlistEntry findEntry(Long id) {
+        return waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("대기 요청을 찾을 수 없습니다."));
+    }
+
+    private synchronized void indexSynchronized(Candidate candidate) {
+        index(candidate);
+    }
+
+    private void index(Candidate candidate) {
+        waiting.computeIfAbsent(candidate.key(), key -> new IntervalTree<>())
+                .insert(candidate.id(), candidate.startDate(), candidate.endDate(), candidate);
+    }
+
+    private synchronized void unindex(Candidate candidate) {
+        IntervalTree<Candidate> tree = waiting.get(candidate.key());
+        if (tree != null) {
+            tree.remove(candidate.id(), candidate.startDate());
+        }
+    }
+
+    private static String siteKey(String siteNumber) {
+        return "SITE:" + siteNumber;
+    }
+
+    private static String classKey(SiteClass siteClass) {
+        return "CLASS:" + siteClass.name();
+    }
+
+    private record Candidate(Long id, String siteNumber, SiteClass siteClass, LocalDate startDate, LocalDate endDate) {
+
+        static Candidate from(WaitlistEntry entry) {
+            return new Candidate(entry.getId(), entry.getSiteNumber(), entry.getSiteClass(),
+                    entry.getStartDate(), entry.getEndDate());
+        }
+
+        String key() {
+            return siteNumber != null ? siteKey(siteNumber) : classKey(siteClass);
+        }
+    }
+}
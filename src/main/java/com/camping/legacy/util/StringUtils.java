@@ -69,7 +69,7 @@ public class StringUtils {
 
     /**
      * 확인 코드 생성을 위한 랜덤 문자열
-     * @deprecated Use generateConfirmationCode in service layer
+     * @deprecated Use ConfirmationCodeGenerator in service layer
      */
     @Deprecated
     public static String generateRandomCode(int length) {
@@ -0,0 +1,46 @@
+package com.camping.legacy.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 결과에 맞춰 콜백 실행 (인메모리 색인/캐시를 DB 커밋과 맞추는 용도)
+ * - 트랜잭션 밖에서 호출되면 커밋된 것으로 보고 즉시 실행
+ * - 커밋 콜백은 afterCommit에서 실행하므로, 나중에 등록된 커밋 후 이벤트 리스너보다 먼저 반영된다
+ * - 결과를 알 수 없는 경우(STATUS_UNKNOWN)에는 어느 콜백도 실행하지 않음
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋 후 실행 (롤백되면 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        onCompletion(action, () -> { });
+    }
+
+    /**
+     * 커밋되면 onCommit, 롤백되면 onRollback 실행
+     */
+    public static void onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
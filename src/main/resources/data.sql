@@ -37,6 +37,10 @@ INSERT INTO campsites (site_number, description, max_people) VALUES
 ('B-14', '소형 사이트 - 전기 있음, 운동장 인근', 6),
 ('B-15', '소형 사이트 - 전기 있음, 운동장 인근', 6);
 
+-- 사이트 속성 (종류/전기/구역)
+UPDATE campsites SET site_class = 'LARGE', has_electricity = TRUE, zone = 'A' WHERE site_number LIKE 'A-%';
+UPDATE campsites SET site_class = 'SMALL', has_electricity = TRUE, zone = 'B' WHERE site_number LIKE 'B-%';
+
 -- 샘플 예약 데이터 (현재 날짜 기준으로 미래 예약)
 INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
 VALUES ('홍길동', DATEADD('DAY', 7, CURRENT_DATE), DATEADD('DAY', 9, CURRENT_DATE), DATEADD('DAY', 7, CURRENT_DATE), 1, '010-1234-5678', 'CONFIRMED', 'ABC123', CURRENT_TIMESTAMP);
@@ -52,4 +56,19 @@ INSERT INTO reservations (customer_name, start_date, end_date, reservation_date,
 VALUES ('박민수', DATEADD('DAY', -7, CURRENT_DATE), DATEADD('DAY', -5, CURRENT_DATE), DATEADD('DAY', -7, CURRENT_DATE), 2, '010-4567-8901', 'CONFIRMED', 'JKL012', DATEADD('DAY', -14, CURRENT_TIMESTAMP));
 
 INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('정수진', DATEADD('DAY', -3, CURRENT_DATE), DATEADD('DAY', -2, CURRENT_DATE), DATEADD('DAY', -3, CURRENT_DATE), 4, '010-5678-9012', 'CONFIRMED', 'MNO345', DATEADD('DAY', -10, CURRENT_TIMESTAMP));
\ No newline at end of file
+VALUES ('정수진', DATEADD('DAY', -3, CURRENT_DATE), DATEADD('DAY', -2, CURRENT_DATE), DATEADD('DAY', -3, CURRENT_DATE), 4, '010-5678-9012', 'CONFIRMED', 'MNO345', DATEADD('DAY', -10, CURRENT_TIMESTAMP));
+
+-- 예약 박(night) 원장 (확정 예약의 기간을 날짜별로 펼침)
+INSERT INTO reservation_nights (campsite_id, night, reservation_id)
+SELECT r.campsite_id, DATEADD('DAY', n.X, r.start_date), r.id
+FROM reservations r
+JOIN SYSTEM_RANGE(0, 60) n ON DATEADD('DAY', n.X, r.start_date) <= r.end_date
+WHERE r.status = 'CONFIRMED';
+
+-- 일별 점유 집계 (예약 박 원장에서 계산, DailyOccupancyRepository.rebuild와 같은 방식)
+INSERT INTO daily_occupancy (occupancy_date, site_class, occupied_sites, arrivals)
+SELECT n.night, COALESCE(c.site_class, 'NONE'), COUNT(*), SUM(CASE WHEN n.night = r.start_date THEN 1 ELSE 0 END)
+FROM reservation_nights n
+JOIN reservations r ON r.id = n.reservation_id
+JOIN campsites c ON c.id = n.campsite_id
+GROUP BY n.night, COALESCE(c.site_class, 'NONE');
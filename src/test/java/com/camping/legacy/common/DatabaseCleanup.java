@@ -1,10 +1,17 @@
 package com.camping.legacy.common;
 
+import com.camping.legacy.service.AvailabilityCache;
+import com.camping.legacy.service.CampsiteCatalog;
+import com.camping.legacy.service.OccupancyIndex;
+import com.camping.legacy.service.ReservationIntervalIndex;
+import com.camping.legacy.service.SiteAttributeIndex;
+import com.camping.legacy.service.WaitlistService;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Table;
 import jakarta.persistence.metamodel.EntityType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +25,24 @@ public class DatabaseCleanup {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private OccupancyIndex occupancyIndex;
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private CampsiteCatalog campsiteCatalog;
+
+    @Autowired
+    private SiteAttributeIndex siteAttributeIndex;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private AvailabilityCache availabilityCache;
+
     private List<String> tableNames;
 
     @Transactional
@@ -35,6 +60,14 @@ public class DatabaseCleanup {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        // 테이블을 직접 비웠으므로 인메모리 점유 비트맵 / 구간 색인 / 대기열 색인도 다시 구성하고 조회 캐시는 비움
+        occupancyIndex.reload();
+        reservationIntervalIndex.reload();
+        campsiteCatalog.invalidate();
+        siteAttributeIndex.invalidate();
+        waitlistService.reload();
+        availabilityCache.clear();
     }
 
     private List<String> extractTableNames() {
@@ -54,6 +54,7 @@ public class CampsiteTestBuilder {
         campsite.setSiteNumber(siteNumber);
         campsite.setMaxPeople(maxPeople);
         campsite.setDescription(description);
+        campsite.fillDerivedAttributes();
         return campsite;
     }
 }
@@ -15,6 +15,7 @@ public class ReservationRequestTestBuilder {
     private String phoneNumber = "010-1234-5678";
     private LocalDate startDate = LocalDate.now().plusDays(7);
     private LocalDate endDate = LocalDate.now().plusDays(9);
+    private String siteClass;
 
     public static ReservationRequestTestBuilder aReservationRequest() {
         return new ReservationRequestTestBuilder();
@@ -51,6 +52,15 @@ public class ReservationRequestTestBuilder {
         return this;
     }
 
+    /**
+     * 사이트 종류로 자동 배정 요청 (사이트 번호는 비움)
+     */
+    public ReservationRequestTestBuilder withSiteClass(String siteClass) {
+        this.siteNumber = null;
+        this.siteClass = siteClass;
+        return this;
+    }
+
     public ReservationRequest build() {
         ReservationRequest request = new ReservationRequest();
         request.setSiteNumber(siteNumber);
@@ -58,6 +68,7 @@ public class ReservationRequestTestBuilder {
         request.setPhoneNumber(phoneNumber);
         request.setStartDate(startDate);
         request.setEndDate(endDate);
+        request.setSiteClass(siteClass);
         return request;
     }
 }
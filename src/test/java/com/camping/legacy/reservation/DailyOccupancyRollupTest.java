@@ -0,0 +1,79 @@
+package com.camping.legacy.reservation;
+
+import com.camping.legacy.common.DatabaseCleanup;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.service.DailyOccupancyRebuilder;
+import com.camping.legacy.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class DailyOccupancyRollupTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private DailyOccupancyRebuilder dailyOccupancyRebuilder;
+
+    @Autowired
+    private CampsiteRepository campsiteRepository;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private final LocalDate startDate = LocalDate.now().plusDays(10);
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        campsiteRepository.save(new Campsite("A-1", "대형 사이트", 6));
+        campsiteRepository.save(new Campsite("B-1", "소형 사이트", 4));
+    }
+
+    @Test
+    void 예약_생성과_취소가_같은_트랜잭션에서_집계에_반영된다() {
+        reserve("A-1", startDate, startDate.plusDays(2));
+        ReservationResponse cancelled = reserve("B-1", startDate.plusDays(1), startDate.plusDays(1));
+
+        reservationService.cancelReservation(cancelled.getId(), cancelled.getConfirmationCode());
+
+        assertThat(reservationService.getDailyReservationCount(startDate.plusDays(1))).isEqualTo(1);
+        assertThat(reservationService.getDailyReservationCount(startDate.plusDays(3))).isZero();
+    }
+
+    @Test
+    void 재구성하면_원장과_같은_집계가_된다() {
+        reserve("A-1", startDate, startDate.plusDays(2));
+        reserve("B-1", startDate, startDate);
+        YearMonth month = YearMonth.from(startDate);
+        int monthlyBefore = reservationService.getMonthlyReservationCount(month.getYear(), month.getMonthValue());
+
+        dailyOccupancyRebuilder.rebuild();
+
+        assertThat(reservationService.getDailyReservationCount(startDate)).isEqualTo(2);
+        assertThat(reservationService.getMonthlyReservationCount(month.getYear(), month.getMonthValue()))
+                .isEqualTo(monthlyBefore)
+                .isEqualTo(2);
+    }
+
+    private ReservationResponse reserve(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setCustomerName("홍길동");
+        request.setPhoneNumber("010-1234-5678");
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        return reservationService.createReservation(request);
+    }
+}
@@ -0,0 +1,116 @@
+package com.camping.legacy.reservation;
+
+import com.camping.legacy.common.DatabaseCleanup;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class MonthlyReportTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private CampsiteRepository campsiteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private final LocalDate startDate = YearMonth.now().plusMonths(2).atDay(10);
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        campsiteRepository.save(new Campsite("A-1", "대형 사이트", 6));
+        campsiteRepository.save(new Campsite("B-1", "소형 사이트", 4));
+    }
+
+    @Test
+    void 예약_시점의_금액과_포인트가_저장된다() {
+        ReservationResponse response = reserve("A-1", startDate, startDate.plusDays(2));
+
+        Reservation saved = reservationRepository.findById(response.getId()).orElseThrow();
+
+        assertThat(saved.getTotalPrice()).isPositive();
+        assertThat(saved.getEarnedPoints()).isPositive();
+    }
+
+    @Test
+    void 저장된_금액과_박수로_월간_리포트를_집계한다() {
+        ReservationResponse first = reserve("A-1", startDate, startDate.plusDays(2));
+        ReservationResponse second = reserve("B-1", startDate, startDate);
+        int expectedRevenue = priceOf(first) + priceOf(second);
+
+        Map<String, Object> report = report();
+
+        assertThat(report.get("reservationCount")).isEqualTo(2);
+        assertThat(report.get("totalRevenue")).isEqualTo(expectedRevenue);
+        assertThat(report.get("cancellationRate")).isEqualTo(0.0);
+        assertThat(report.get("averageReservationDays")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 취소된_예약은_건수_수익_평균_기간에서_모두_제외한다() {
+        ReservationResponse confirmed = reserve("A-1", startDate, startDate.plusDays(2));
+        ReservationResponse cancelled = reserve("B-1", startDate, startDate);
+        reservationService.cancelReservation(cancelled.getId(), cancelled.getConfirmationCode());
+
+        Map<String, Object> report = report();
+
+        assertThat(report.get("reservationCount")).isEqualTo(1);
+        assertThat(report.get("totalRevenue")).isEqualTo(priceOf(confirmed));
+        assertThat(report.get("averageReservationDays")).isEqualTo(2.0);
+        assertThat(report.get("cancellationRate")).isEqualTo(0.5);
+    }
+
+    @Test
+    void 금액이_저장되지_않은_기존_예약은_계산해서_합산한다() {
+        ReservationResponse response = reserve("A-1", startDate, startDate.plusDays(1));
+        int storedPrice = reservationRepository.findById(response.getId()).orElseThrow().getTotalPrice();
+        jdbcTemplate.update("UPDATE reservations SET total_price = NULL, earned_points = NULL WHERE id = ?", response.getId());
+
+        assertThat(report().get("totalRevenue")).isEqualTo(
+                reservationService.calculateReservationPrice(startDate, startDate.plusDays(1), "A-1"))
+                .isEqualTo(storedPrice);
+    }
+
+    private int priceOf(ReservationResponse response) {
+        return reservationRepository.findById(response.getId()).orElseThrow().getTotalPrice();
+    }
+
+    private Map<String, Object> report() {
+        return reservationService.generateMonthlyReport(startDate.getYear(), startDate.getMonthValue());
+    }
+
+    private ReservationResponse reserve(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setCustomerName("홍길동");
+        request.setPhoneNumber("010-1234-5678");
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        return reservationService.createReservation(request);
+    }
+}
@@ -1,5 +1,6 @@
 package com.camping.legacy.reservation;
 
+import com.camping.legacy.common.DatabaseCleanup;
 import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.dto.ReservationRequest;
 import com.camping.legacy.repository.CampsiteRepository;
@@ -30,11 +31,14 @@ class ReservationConcurrencyTest {
     @Autowired
     private CampsiteRepository campsiteRepository;
 
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
     private Campsite testCampsite;
 
     @BeforeEach
     void setUp() {
-        reservationRepository.deleteAll();
+        databaseCleanup.execute();
         testCampsite = campsiteRepository.findBySiteNumber("A-1")
                 .orElseGet(() -> {
                     Campsite campsite = new Campsite();
@@ -6,6 +6,7 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 import static com.camping.legacy.step.ReservationStep.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,6 +65,19 @@ class ReservationCreateAcceptanceTest extends AcceptanceTest {
         예약이_실패했는지_확인한다(응답);
     }
 
+    @Test
+    void 같은_멱등성_키로_다시_요청하면_처음_예약을_반환() {
+        var idempotencyKey = UUID.randomUUID().toString();
+        var 첫_응답 = 멱등성_키로_일주일_후_예약을_생성한다(idempotencyKey);
+
+        var 재요청_응답 = 멱등성_키로_일주일_후_예약을_생성한다(idempotencyKey);
+
+        예약이_성공했는지_확인한다(재요청_응답);
+        assertThat(재요청_응답.jsonPath().getLong("id")).isEqualTo(첫_응답.jsonPath().getLong("id"));
+        assertThat(재요청_응답.jsonPath().getString("confirmationCode"))
+                .isEqualTo(첫_응답.jsonPath().getString("confirmationCode"));
+    }
+
     // Given
     private ExtractableResponse<Response> 일주일_후_예약을_생성한다() {
         var startDate = LocalDate.now().plusDays(7);
@@ -71,6 +85,12 @@ class ReservationCreateAcceptanceTest extends AcceptanceTest {
         return 예약을_생성한다(CUSTOMER_NAME, startDate, endDate, SITE_A1, PHONE_NUMBER);
     }
 
+    private ExtractableResponse<Response> 멱등성_키로_일주일_후_예약을_생성한다(String idempotencyKey) {
+        var startDate = LocalDate.now().plusDays(7);
+        var endDate = LocalDate.now().plusDays(9);
+        return 멱등성_키로_예약을_생성한다(idempotencyKey, CUSTOMER_NAME, startDate, endDate, SITE_A1, PHONE_NUMBER);
+    }
+
     private ExtractableResponse<Response> 과거_날짜로_예약을_생성한다() {
         var pastDate = LocalDate.now().minusDays(1);
         var endDate = LocalDate.now().plusDays(1);
@@ -0,0 +1,73 @@
+package com.camping.legacy.reservation;
+
+import com.camping.legacy.common.AcceptanceTest;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.camping.legacy.step.ReservationStep.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationExportAcceptanceTest extends AcceptanceTest {
+
+    private static final String PHONE_NUMBER = "010-1234-5678";
+
+    private final LocalDate startDate = LocalDate.now().plusDays(7);
+
+    @BeforeEach
+    void 예약을_준비한다() {
+        예약을_생성한다("홍길동", startDate, startDate.plusDays(2), "A-1", PHONE_NUMBER);
+        예약을_생성한다("김, \"캠퍼\"", startDate.plusDays(1), startDate.plusDays(1), "B-1", PHONE_NUMBER);
+        예약을_생성한다("기간밖", startDate.plusDays(20), startDate.plusDays(21), "A-2", PHONE_NUMBER);
+    }
+
+    @Test
+    void CSV로_기간_내_예약을_내보낸다() {
+        var 응답 = 예약을_내보낸다("csv", startDate, startDate.plusDays(5));
+
+        assertThat(응답.statusCode()).isEqualTo(200);
+        assertThat(응답.contentType()).startsWith("text/csv");
+        List<String> lines = 응답.body().asString().lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,customerName,phoneNumber,siteNumber");
+        assertThat(lines.get(1)).contains(",홍길동,", ",A-1,");
+        assertThat(lines.get(2)).contains(",\"김, \"\"캠퍼\"\"\",");
+    }
+
+    @Test
+    void NDJSON은_한_줄에_예약_하나씩_내보낸다() {
+        var 응답 = 예약을_내보낸다("ndjson", startDate, startDate.plusDays(5));
+
+        assertThat(응답.statusCode()).isEqualTo(200);
+        List<String> lines = 응답.body().asString().lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonPath first = new JsonPath(lines.get(0));
+        assertThat(first.getString("customerName")).isEqualTo("홍길동");
+        assertThat(first.getString("startDate")).isEqualTo(startDate.toString());
+        assertThat(first.getInt("totalPrice")).isPositive();
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_실패() {
+        var 응답 = 예약을_내보낸다("xml", startDate, startDate.plusDays(5));
+
+        내보내기_요청이_실패했는지_확인한다(응답);
+    }
+
+    @Test
+    void 종료일이_시작일보다_이전이면_실패() {
+        var 응답 = 예약을_내보낸다("csv", startDate.plusDays(5), startDate);
+
+        내보내기_요청이_실패했는지_확인한다(응답);
+    }
+
+    private void 내보내기_요청이_실패했는지_확인한다(ExtractableResponse<Response> 응답) {
+        assertThat(응답.statusCode()).isEqualTo(400);
+        assertThat(응답.jsonPath().getString("message")).isNotEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.CacheProperties;
+import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.dto.SiteAvailabilityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityCacheTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 8, 1);
+    private static final Long SITE_ID = 1L;
+
+    private AvailabilityCache availabilityCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.setSearchMaxEntries(2);
+        availabilityCache = new AvailabilityCache(properties);
+    }
+
+    @Nested
+    class 검색_캐시 {
+
+        @Test
+        void 같은_기간과_조건은_한_번만_계산한다() {
+            search(BASE, BASE.plusDays(2));
+            search(BASE, BASE.plusDays(2));
+
+            assertThat(loads).hasValue(1);
+            assertThat(availabilityCache.getStatistics())
+                    .containsEntry("searchCacheHits", 1L)
+                    .containsEntry("searchCacheMisses", 1L);
+        }
+
+        @Test
+        void 겹치는_기간의_예약이_커밋되면_다시_계산한다() {
+            search(BASE, BASE.plusDays(2));
+
+            availabilityCache.onAvailabilityChanged(AvailabilityChangedEvent.booked(SITE_ID, "A-1", BASE.plusDays(2), BASE.plusDays(3)));
+            search(BASE, BASE.plusDays(2));
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        void 겹치지_않는_기간의_변경은_유지한다() {
+            search(BASE, BASE.plusDays(2));
+
+            availabilityCache.onAvailabilityChanged(AvailabilityChangedEvent.booked(SITE_ID, "A-1", BASE.plusDays(3), BASE.plusDays(4)));
+            search(BASE, BASE.plusDays(2));
+
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        void 계산_중에_무효화되면_결과를_저장하지_않는다() {
+            availabilityCache.getAvailableSites(BASE, BASE, SiteQuery.all(), () -> {
+                loads.incrementAndGet();
+                availabilityCache.onAvailabilityChanged(AvailabilityChangedEvent.released(SITE_ID, "A-1", BASE, BASE));
+                return List.of();
+            });
+            search(BASE, BASE);
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        void 크기를_넘으면_가장_오래_안_쓴_항목부터_제거한다() {
+            search(BASE, BASE);
+            search(BASE.plusDays(1), BASE.plusDays(1));
+            search(BASE, BASE);
+            search(BASE.plusDays(2), BASE.plusDays(2));
+
+            search(BASE, BASE);
+            search(BASE.plusDays(1), BASE.plusDays(1));
+
+            assertThat(loads).hasValue(4);
+            assertThat(availabilityCache.getStatistics()).containsEntry("searchCacheEvictions", 2L);
+        }
+    }
+
+    @Nested
+    class 캘린더_캐시 {
+
+        @Test
+        void 해당_사이트와_월의_변경만_무효화한다() {
+            calendar(SITE_ID, YearMonth.from(BASE));
+            calendar(2L, YearMonth.from(BASE));
+            calendar(SITE_ID, YearMonth.from(BASE).plusMonths(1));
+
+            availabilityCache.onReservationDetailsChanged(new ReservationDetailsChangedEvent(SITE_ID, BASE, BASE.plusDays(1)));
+            calendar(SITE_ID, YearMonth.from(BASE));
+            calendar(2L, YearMonth.from(BASE));
+            calendar(SITE_ID, YearMonth.from(BASE).plusMonths(1));
+
+            assertThat(loads).hasValue(4);
+        }
+    }
+
+    private void search(LocalDate startDate, LocalDate endDate) {
+        availabilityCache.getAvailableSites(startDate, endDate, SiteQuery.all(), counting(List::<SiteAvailabilityResponse>of));
+    }
+
+    private void calendar(Long siteId, YearMonth month) {
+        availabilityCache.getMonthlyCalendar(siteId, month, counting(() -> CalendarResponse.builder().siteId(siteId).build()));
+    }
+
+    private <T> Supplier<T> counting(Supplier<T> loader) {
+        return () -> {
+            loads.incrementAndGet();
+            return loader.get();
+        };
+    }
+}
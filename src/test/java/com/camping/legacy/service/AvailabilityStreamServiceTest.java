@@ -0,0 +1,89 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.StreamProperties;
+import com.camping.legacy.dto.AvailabilityDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityStreamServiceTest {
+
+    private static final String SITE = "A-1";
+    private static final LocalDate BASE = LocalDate.of(2030, 8, 1);
+
+    @Mock
+    private CampsiteCatalog campsiteCatalog;
+
+    private AvailabilityStreamService availabilityStreamService;
+
+    @BeforeEach
+    void setUp() {
+        StreamProperties properties = new StreamProperties();
+        properties.setReplayBufferSize(3);
+        availabilityStreamService = new AvailabilityStreamService(properties, campsiteCatalog);
+    }
+
+    @Nested
+    class 재접속_재생 {
+
+        @Test
+        void 마지막_이벤트_이후_변경분만_돌려준다() {
+            publish(SITE, 1);
+            publish(SITE, 2);
+            publish(SITE, 3);
+
+            List<AvailabilityDelta> missed = availabilityStreamService.replaySince(SITE, 1);
+
+            assertThat(missed).extracting(AvailabilityDelta::getId).containsExactly(2L, 3L);
+            assertThat(missed).extracting(AvailabilityDelta::getStartDate)
+                    .containsExactly(BASE.plusDays(2), BASE.plusDays(3));
+        }
+
+        @Test
+        void 다른_사이트_변경분은_포함하지_않는다() {
+            publish(SITE, 1);
+            publish("B-1", 2);
+
+            assertThat(availabilityStreamService.replaySince(SITE, 0))
+                    .extracting(AvailabilityDelta::getSiteNumber).containsExactly(SITE);
+        }
+
+        @Test
+        void 보관_범위를_벗어나면_RESET을_돌려준다() {
+            for (int day = 1; day <= 5; day++) {
+                publish(SITE, day);
+            }
+
+            List<AvailabilityDelta> missed = availabilityStreamService.replaySince(SITE, 1);
+
+            assertThat(missed).singleElement()
+                    .extracting(AvailabilityDelta::getChange).isEqualTo(AvailabilityDelta.RESET);
+        }
+    }
+
+    @Test
+    void 없는_사이트는_구독할_수_없다() {
+        given(campsiteCatalog.findBySiteNumber("Z-9")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> availabilityStreamService.subscribe("Z-9", null))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("사이트를 찾을 수 없습니다: Z-9");
+    }
+
+    private void publish(String siteNumber, int day) {
+        availabilityStreamService.onAvailabilityChanged(AvailabilityChangedEvent.booked(
+                1L, siteNumber, BASE.plusDays(day), BASE.plusDays(day)));
+    }
+}
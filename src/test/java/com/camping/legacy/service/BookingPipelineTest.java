@@ -0,0 +1,136 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.BookingProperties;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BookingPipelineTest {
+
+    private static final long TIMEOUT_MILLIS = 100;
+    private static final int COMMIT_TIMEOUT_SECONDS = 1;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private BookingRetryExecutor bookingRetryExecutor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingPipeline bookingPipeline;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties properties = new BookingProperties();
+        properties.getPipeline().setPartitions(1);
+        properties.getPipeline().setWorkerThreads(1);
+        properties.getPipeline().setMaxBatchSize(1);
+        properties.getPipeline().setTimeoutMillis(TIMEOUT_MILLIS);
+        properties.getPipeline().setCommitTimeoutSeconds(COMMIT_TIMEOUT_SECONDS);
+        bookingPipeline = new BookingPipeline(reservationService, bookingRetryExecutor, properties, transactionManager);
+        bookingPipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingPipeline.stop();
+    }
+
+    @Test
+    void 처리_전에_대기_시간이_초과된_요청은_실패로_응답하고_커밋하지_않는다() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(reservationService.createReservationGroup(anyList())).willAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return List.of(ReservationResult.success(response("A-1")));
+        });
+        CompletableFuture<ReservationResponse> first =
+                CompletableFuture.supplyAsync(() -> bookingPipeline.submitAndWait(request("A-1")));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 작업자가 첫 요청을 처리하는 동안 두 번째 요청은 큐에서 대기하다 시간 초과
+        assertThatThrownBy(() -> bookingPipeline.submitAndWait(request("A-2")))
+                .hasMessage("예약 처리 대기 시간이 초과되었습니다.");
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS).getSiteNumber()).isEqualTo("A-1");
+        then(reservationService).should(after(TIMEOUT_MILLIS * 3).times(1)).createReservationGroup(anyList());
+    }
+
+    @Test
+    void 처리_중에_대기_시간이_지나면_트랜잭션_시간_제한까지_결과를_기다린다() {
+        given(reservationService.createReservationGroup(anyList())).willAnswer(invocation -> {
+            Thread.sleep(TIMEOUT_MILLIS * 3);
+            return List.of(ReservationResult.success(response("A-1")));
+        });
+
+        ReservationResponse response = bookingPipeline.submitAndWait(request("A-1"));
+
+        assertThat(response.getSiteNumber()).isEqualTo("A-1");
+    }
+
+    @Test
+    void 트랜잭션_시간_제한이_지나도_결과가_없으면_결과_미확인으로_응답한다() {
+        CountDownLatch release = new CountDownLatch(1);
+        given(reservationService.createReservationGroup(anyList())).willAnswer(invocation -> {
+            release.await();
+            return List.of(ReservationResult.success(response("A-1")));
+        });
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> bookingPipeline.submitAndWait(request("A-1")))
+                .hasMessage("예약 처리 결과를 확인하지 못했습니다. 예약 내역을 조회해 확인해주세요.");
+        release.countDown();
+
+        long limitMillis = TIMEOUT_MILLIS + TimeUnit.SECONDS.toMillis(COMMIT_TIMEOUT_SECONDS) + 1000;
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(limitMillis + 500);
+    }
+
+    @Test
+    void 그룹_커밋이_롤백될_때_대기_시간이_지난_요청은_다시_처리하지_않는다() {
+        given(reservationService.createReservationGroup(anyList())).willAnswer(invocation -> {
+            Thread.sleep(TIMEOUT_MILLIS * 2);
+            throw new RuntimeException("그룹 커밋 실패");
+        });
+
+        assertThatThrownBy(() -> bookingPipeline.submitAndWait(request("A-1")))
+                .hasMessage("예약 처리 대기 시간이 초과되었습니다.");
+        then(bookingRetryExecutor).shouldHaveNoInteractions();
+    }
+
+    private ReservationRequest request(String siteNumber) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        return request;
+    }
+
+    private ReservationResponse response(String siteNumber) {
+        ReservationResponse response = new ReservationResponse();
+        response.setSiteNumber(siteNumber);
+        return response;
+    }
+}
@@ -0,0 +1,61 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.repository.CampsiteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aLargeSite;
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aSmallSite;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CampsiteCatalogTest {
+
+    @Mock
+    private CampsiteRepository campsiteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CampsiteCatalog campsiteCatalog;
+
+    @BeforeEach
+    void setUp() {
+        given(campsiteRepository.findAll()).willReturn(List.of(
+                aSmallSite().withId(2L).build(),
+                aLargeSite().withId(1L).build()));
+        campsiteCatalog = new CampsiteCatalog(campsiteRepository, transactionManager);
+    }
+
+    @Test
+    void 사이트_번호와_ID로_조회한다() {
+        assertThat(campsiteCatalog.findBySiteNumber("B-1")).map(Campsite::getId).contains(2L);
+        assertThat(campsiteCatalog.findById(1L)).map(Campsite::getSiteNumber).contains("A-1");
+        assertThat(campsiteCatalog.findBySiteNumber("Z-9")).isEmpty();
+    }
+
+    @Test
+    void 전체_목록은_등록_순() {
+        assertThat(campsiteCatalog.findAll()).extracting(Campsite::getSiteNumber).containsExactly("A-1", "B-1");
+    }
+
+    @Test
+    void 무효화_전까지는_DB를_다시_읽지_않는다() {
+        campsiteCatalog.findBySiteNumber("A-1");
+        campsiteCatalog.findById(2L);
+        campsiteCatalog.invalidate();
+        campsiteCatalog.findAll();
+
+        then(campsiteRepository).should(times(2)).findAll();
+    }
+}
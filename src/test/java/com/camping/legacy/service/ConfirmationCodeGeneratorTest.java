@@ -0,0 +1,43 @@
+package com.camping.legacy.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConfirmationCodeGeneratorTest {
+
+    private final ConfirmationCodeGenerator generator = new ConfirmationCodeGenerator();
+
+    @Test
+    void 영문_대문자와_숫자로_된_6자리_코드를_발급() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(generator.next()).matches("[A-Z0-9]{6}");
+        }
+    }
+
+    @Test
+    void 연속_발급한_코드는_거의_겹치지_않음() {
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            codes.add(generator.next());
+        }
+
+        assertThat(codes).hasSizeGreaterThan(9_990);
+    }
+
+    @Test
+    void 확인_코드_유니크_제약_위반만_충돌로_판단() {
+        DataIntegrityViolationException codeViolation = new DataIntegrityViolationException("insert 실패",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_RESERVATIONS_CONFIRMATION_CODE_INDEX_8\""));
+        DataIntegrityViolationException nightViolation = new DataIntegrityViolationException("insert 실패",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_RESERVATION_NIGHTS_CAMPSITE_NIGHT_INDEX_4\""));
+
+        assertThat(ConfirmationCodeGenerator.isCollision(codeViolation)).isTrue();
+        assertThat(ConfirmationCodeGenerator.isCollision(nightViolation)).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.camping.legacy.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTest {
+
+    private final HashedTimerWheel wheel = new HashedTimerWheel(100, 8, "test-wheel");
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void 지연_시간이_지난_틱에서_실행() {
+        wheel.schedule(() -> fired.add("a"), 300);
+
+        advance(3);
+        assertThat(fired).isEmpty();
+
+        advance(1);
+        assertThat(fired).containsExactly("a");
+    }
+
+    @Test
+    void 휠_한_바퀴보다_긴_지연도_정확한_틱에_실행() {
+        wheel.schedule(() -> fired.add("long"), 1_100);
+
+        advance(11);
+        assertThat(fired).isEmpty();
+
+        advance(1);
+        assertThat(fired).containsExactly("long");
+    }
+
+    @Test
+    void 취소된_작업은_실행되지_않음() {
+        HashedTimerWheel.Timeout timeout = wheel.schedule(() -> fired.add("cancelled"), 200);
+        wheel.schedule(() -> fired.add("kept"), 200);
+
+        timeout.cancel();
+        advance(3);
+
+        assertThat(fired).containsExactly("kept");
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+}
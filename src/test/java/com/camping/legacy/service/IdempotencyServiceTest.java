@@ -0,0 +1,179 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.IdempotencyProperties;
+import com.camping.legacy.domain.IdempotencyRecord;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.camping.legacy.fixture.ReservationRequestTestBuilder.aReservationRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "retry-key-1";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new IdempotencyProperties(),
+                new ObjectMapper().findAndRegisterModules());
+        lenient().when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void 같은_키로_다시_요청하면_예약을_다시_만들지_않음() {
+        ReservationRequest request = aReservationRequest().build();
+
+        ReservationResponse first = idempotencyService.execute(KEY, request, this::createReservation);
+        ReservationResponse replayed = idempotencyService.execute(KEY, request, this::createReservation);
+
+        assertThat(replayed).isSameAs(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외() {
+        idempotencyService.execute(KEY, aReservationRequest().build(), this::createReservation);
+
+        ReservationRequest other = aReservationRequest().withSiteNumber("B-1").build();
+
+        assertThatThrownBy(() -> idempotencyService.execute(KEY, other, this::createReservation))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("같은 Idempotency-Key로 다른 예약 요청을 보낼 수 없습니다.");
+    }
+
+    @Test
+    void 실패한_요청은_같은_키로_다시_시도할_수_있음() {
+        ReservationRequest request = aReservationRequest().build();
+
+        assertThatThrownBy(() -> idempotencyService.execute(KEY, request, () -> {
+            throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+        })).hasMessage("해당 기간에 이미 예약이 존재합니다.");
+
+        idempotencyService.execute(KEY, request, this::createReservation);
+        assertThat(executions).hasValue(1);
+        then(idempotencyRecordRepository).should().releaseClaim(eq(KEY), any());
+    }
+
+    @Test
+    void 다른_인스턴스에서_완료된_키는_저장된_응답을_돌려줌() throws Exception {
+        ReservationRequest request = aReservationRequest().build();
+        ReservationResponse original = createReservation();
+        keyAlreadyClaimed(request, new ObjectMapper().findAndRegisterModules().writeValueAsString(original));
+
+        ReservationResponse replayed = idempotencyService.execute(KEY, request, this::createReservation);
+
+        assertThat(replayed.getId()).isEqualTo(original.getId());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void 다른_곳에서_처리_중인_키는_예약하지_않고_거절() {
+        ReservationRequest request = aReservationRequest().build();
+        keyAlreadyClaimed(request, null);
+
+        assertThatThrownBy(() -> idempotencyService.execute(KEY, request, this::createReservation))
+                .hasMessage("같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void 선점_유지_시간이_지난_처리_중_키는_같은_요청이_넘겨받아_예약() {
+        ReservationRequest request = aReservationRequest().build();
+        String fingerprint = IdempotencyService.fingerprint(request);
+        willThrow(new DataIntegrityViolationException("duplicate key"))
+                .given(idempotencyRecordRepository).claim(eq(KEY), anyString(), any());
+        given(idempotencyRecordRepository.takeOverClaim(eq(KEY), eq(fingerprint), any(), any())).willReturn(1);
+
+        ReservationResponse response = idempotencyService.execute(KEY, request, this::createReservation);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseExpiredBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(idempotencyRecordRepository).should()
+                .takeOverClaim(eq(KEY), eq(fingerprint), claimedAt.capture(), leaseExpiredBefore.capture());
+        assertThat(leaseExpiredBefore.getValue())
+                .isEqualTo(claimedAt.getValue().minusSeconds(new IdempotencyProperties().getClaimLeaseSeconds()));
+        then(idempotencyRecordRepository).should().complete(eq(KEY), eq(claimedAt.getValue()), anyString());
+    }
+
+    @Test
+    void 동시에_들어온_같은_키의_요청은_한_번만_실행() throws Exception {
+        ReservationRequest request = aReservationRequest().build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ReservationResponse> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, request, () -> {
+                    started.countDown();
+                    await(release);
+                    return createReservation();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ReservationResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, request, this::createReservation));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+    }
+
+    private void keyAlreadyClaimed(ReservationRequest request, String responseBody) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(KEY);
+        record.setRequestFingerprint(IdempotencyService.fingerprint(request));
+        record.setResponseBody(responseBody);
+        record.setCreatedAt(LocalDateTime.now());
+        willThrow(new DataIntegrityViolationException("duplicate key"))
+                .given(idempotencyRecordRepository).claim(eq(KEY), anyString(), any());
+        given(idempotencyRecordRepository.findById(KEY)).willReturn(Optional.of(record));
+    }
+
+    private ReservationResponse createReservation() {
+        ReservationResponse response = new ReservationResponse();
+        response.setId((long) executions.incrementAndGet());
+        response.setStatus("CONFIRMED");
+        return response;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
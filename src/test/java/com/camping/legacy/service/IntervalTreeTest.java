@@ -0,0 +1,55 @@
+package com.camping.legacy.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 8, 1);
+
+    private final IntervalTree<String> tree = new IntervalTree<>();
+
+    @Test
+    void 겹치는_구간만_조회() {
+        tree.insert(1L, BASE, BASE.plusDays(2), "a");
+        tree.insert(2L, BASE.plusDays(5), BASE.plusDays(7), "b");
+        tree.insert(3L, BASE.plusDays(1), BASE.plusDays(10), "c");
+
+        assertThat(tree.findOverlapping(BASE.plusDays(3), BASE.plusDays(4))).containsExactly("c");
+        assertThat(tree.findOverlapping(BASE.plusDays(2), BASE.plusDays(5)))
+                .containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void 양끝_날짜가_맞닿아도_겹치는_것으로_본다() {
+        tree.insert(1L, BASE, BASE.plusDays(2), "a");
+
+        assertThat(tree.findOverlapping(BASE.plusDays(2), BASE.plusDays(3))).containsExactly("a");
+        assertThat(tree.findOverlapping(BASE.plusDays(3), BASE.plusDays(4))).isEmpty();
+    }
+
+    @Test
+    void 삭제한_구간은_조회되지_않음() {
+        tree.insert(1L, BASE, BASE.plusDays(2), "a");
+        tree.insert(2L, BASE, BASE.plusDays(2), "b");
+
+        boolean removed = tree.remove(1L, BASE);
+
+        assertThat(removed).isTrue();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlapping(BASE, BASE.plusDays(2))).containsExactly("b");
+    }
+
+    @Test
+    void 많은_구간에서도_겹치는_구간을_모두_찾는다() {
+        for (long i = 0; i < 1_000; i++) {
+            tree.insert(i, BASE.plusDays(i), BASE.plusDays(i + 2), "r" + i);
+        }
+
+        assertThat(tree.findOverlapping(BASE.plusDays(500), BASE.plusDays(500)))
+                .containsExactlyInAnyOrder("r498", "r499", "r500");
+    }
+}
@@ -0,0 +1,82 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.repository.CalendarReservation;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class MonthlyCalendarTest {
+
+    private static final YearMonth AUGUST = YearMonth.of(2030, 8);
+
+    @Test
+    void 예약된_날에_예약자와_예약_ID를_채운다() {
+        MonthlyCalendar calendar = MonthlyCalendar.of(AUGUST, List.of(
+                reservation(1L, "홍길동", AUGUST.atDay(10), AUGUST.atDay(11))));
+
+        List<CalendarResponse.DayStatus> days = calendar.days();
+
+        assertThat(days).hasSize(31);
+        assertThat(days.get(9).getAvailable()).isFalse();
+        assertThat(days.get(10).getCustomerName()).isEqualTo("홍길동");
+        assertThat(days.get(10).getReservationId()).isEqualTo(1L);
+        assertThat(days.get(11).getAvailable()).isTrue();
+        assertThat(days.get(11).getDate()).isEqualTo(AUGUST.atDay(12));
+    }
+
+    @Test
+    void 월_경계를_넘는_예약은_해당_월_부분만_센다() {
+        MonthlyCalendar calendar = MonthlyCalendar.of(AUGUST, List.of(
+                reservation(1L, "홍길동", LocalDate.of(2030, 7, 30), AUGUST.atDay(2)),
+                reservation(2L, "김철수", AUGUST.atDay(30), LocalDate.of(2030, 9, 3))));
+
+        assertThat(calendar.summary())
+                .containsEntry("totalDays", 31)
+                .containsEntry("reservedDays", 4)
+                .containsEntry("availableDays", 27);
+    }
+
+    @Test
+    void 한_줄_표현은_일자별_예약_ID와_예약자_이름표로_만든다() {
+        MonthlyCalendar calendar = MonthlyCalendar.of(AUGUST, List.of(
+                reservation(7L, "홍길동", AUGUST.atDay(1), AUGUST.atDay(2))));
+
+        assertThat(calendar.reservationIds()).hasSize(31).startsWith(7L, 7L, null);
+        assertThat(calendar.customerNames()).containsExactly(entry(7L, "홍길동"));
+    }
+
+    private CalendarReservation reservation(Long id, String customerName, LocalDate startDate, LocalDate endDate) {
+        return new CalendarReservation() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCampsiteId() {
+                return 1L;
+            }
+
+            @Override
+            public String getCustomerName() {
+                return customerName;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.NotificationProperties;
+import com.camping.legacy.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private NotificationSender notificationSender;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        NotificationProperties properties = new NotificationProperties();
+        properties.setBatchSize(2);
+        properties.setMaxAttempts(3);
+        notificationDispatcher = new NotificationDispatcher(outboxMessageRepository, notificationSender, properties);
+    }
+
+    @Test
+    void 대기_중인_알림을_묶음으로_발송하고_발송_완료로_표시() {
+        List<NotificationMessage> first = List.of(message(1L), message(2L));
+        List<NotificationMessage> second = List.of(message(3L));
+        given(outboxMessageRepository.findPending(2)).willReturn(first, second);
+
+        int dispatched = notificationDispatcher.dispatchPending();
+
+        assertThat(dispatched).isEqualTo(3);
+        then(notificationSender).should().send(first);
+        then(notificationSender).should().send(second);
+        then(outboxMessageRepository).should().markSent(List.of(1L, 2L));
+        then(outboxMessageRepository).should().markSent(List.of(3L));
+    }
+
+    @Test
+    void 발송에_실패하면_시도_횟수만_올리고_중단() {
+        List<NotificationMessage> batch = List.of(message(1L), message(2L));
+        given(outboxMessageRepository.findPending(2)).willReturn(batch);
+        willThrow(new RuntimeException("게이트웨이 오류")).given(notificationSender).send(batch);
+
+        int dispatched = notificationDispatcher.dispatchPending();
+
+        assertThat(dispatched).isZero();
+        then(outboxMessageRepository).should().markFailed(List.of(1L, 2L), 3);
+        then(outboxMessageRepository).should(never()).markSent(anyList());
+    }
+
+    private NotificationMessage message(Long id) {
+        return new NotificationMessage(id, NotificationMessage.TYPE_CONFIRMATION, id,
+                "홍길동", "010-1234-5678", "예약 확인");
+    }
+}
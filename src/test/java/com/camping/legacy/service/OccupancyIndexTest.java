@@ -0,0 +1,278 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.config.CacheProperties;
+import com.camping.legacy.dto.SiteAvailabilityResponse;
+import com.camping.legacy.repository.ReservationPeriod;
+import com.camping.legacy.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyIndexTest {
+
+    private static final Long SITE_ID = 1L;
+    private static final Long OTHER_SITE_ID = 2L;
+    private static final LocalDate BASE = LocalDate.of(2030, 8, 1);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Spy
+    private AvailabilityCache availabilityCache = new AvailabilityCache(new CacheProperties());
+
+    @InjectMocks
+    private OccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(reservationRepository.findPeriodsByStatus("CONFIRMED"))
+                .willReturn(List.of(period(SITE_ID, BASE.plusDays(5), BASE.plusDays(7))));
+        occupancyIndex.reload();
+    }
+
+    @Nested
+    class 충돌_검사 {
+
+        @Test
+        void 로딩된_예약과_겹치면_점유_불가() {
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(7), BASE.plusDays(9))).isFalse();
+        }
+
+        @Test
+        void 종료일_다음날부터는_점유_가능() {
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(8), BASE.plusDays(9))).isTrue();
+        }
+
+        @Test
+        void 다른_사이트는_영향_없음() {
+            assertThat(occupancyIndex.isFree(OTHER_SITE_ID, BASE.plusDays(5), BASE.plusDays(7))).isTrue();
+        }
+    }
+
+    @Nested
+    class 점유와_해제 {
+
+        @Test
+        void 점유_후_같은_기간은_다시_점유할_수_없다() {
+            boolean first = occupancyIndex.reserve(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+            boolean second = occupancyIndex.reserve(SITE_ID, BASE.plusDays(12), BASE.plusDays(13));
+
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        void 해제하면_다시_점유_가능() {
+            occupancyIndex.release(SITE_ID, BASE.plusDays(5), BASE.plusDays(7));
+
+            assertThat(occupancyIndex.reserve(SITE_ID, BASE.plusDays(5), BASE.plusDays(7))).isTrue();
+        }
+    }
+
+    @Nested
+    class 예약_이동 {
+
+        @Test
+        void 자기_기간과_겹치는_이동은_허용() {
+            boolean moved = occupancyIndex.move(
+                    SITE_ID, BASE.plusDays(5), BASE.plusDays(7),
+                    SITE_ID, BASE.plusDays(6), BASE.plusDays(8));
+
+            assertThat(moved).isTrue();
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(5), BASE.plusDays(5))).isTrue();
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(8), BASE.plusDays(8))).isFalse();
+        }
+
+        @Test
+        void 다른_예약과_겹치면_이동_실패() {
+            occupancyIndex.reserve(OTHER_SITE_ID, BASE.plusDays(5), BASE.plusDays(6));
+
+            boolean moved = occupancyIndex.move(
+                    SITE_ID, BASE.plusDays(5), BASE.plusDays(7),
+                    OTHER_SITE_ID, BASE.plusDays(6), BASE.plusDays(8));
+
+            assertThat(moved).isFalse();
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(5), BASE.plusDays(7))).isFalse();
+        }
+    }
+
+    @Nested
+    class 롤백 {
+
+        private final LocalDate startDate = BASE.plusDays(10);
+        private final LocalDate endDate = BASE.plusDays(12);
+
+        @Test
+        void 롤백된_선점을_보고_캐시된_검색_결과는_무효화된다() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                occupancyIndex.reserve(SITE_ID, startDate, endDate);
+                assertThat(search()).isEmpty();
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(occupancyIndex.isFree(SITE_ID, startDate, endDate)).isTrue();
+            assertThat(search()).hasSize(1);
+        }
+
+        private List<SiteAvailabilityResponse> search() {
+            return availabilityCache.getAvailableSites(startDate, endDate, SiteQuery.all(),
+                    () -> occupancyIndex.isFree(SITE_ID, startDate, endDate)
+                            ? List.of(new SiteAvailabilityResponse())
+                            : List.of());
+        }
+    }
+
+    @Nested
+    class 홀드 {
+
+        @Test
+        void 홀드된_기간은_예약할_수_없다() {
+            occupancyIndex.placeHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+
+            assertThat(occupancyIndex.reserve(SITE_ID, BASE.plusDays(12), BASE.plusDays(13))).isFalse();
+        }
+
+        @Test
+        void 예약과_겹치면_홀드할_수_없다() {
+            assertThat(occupancyIndex.placeHold(SITE_ID, BASE.plusDays(7), BASE.plusDays(9))).isFalse();
+        }
+
+        @Test
+        void 홀드_해제_후에는_예약_가능() {
+            occupancyIndex.placeHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+            occupancyIndex.releaseHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+
+            assertThat(occupancyIndex.reserve(SITE_ID, BASE.plusDays(10), BASE.plusDays(12))).isTrue();
+        }
+
+        @Test
+        void 홀드를_점유로_전환하면_해제해도_점유_유지() {
+            occupancyIndex.placeHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+            occupancyIndex.convertHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+            occupancyIndex.releaseHold(SITE_ID, BASE.plusDays(10), BASE.plusDays(12));
+
+            assertThat(occupancyIndex.isFree(SITE_ID, BASE.plusDays(10), BASE.plusDays(12))).isFalse();
+        }
+    }
+
+    @Nested
+    class 기준일_이전_날짜 {
+
+        private final LocalDate beforeOrigin = LocalDate.of(1960, 1, 1);
+
+        @Test
+        void 기준일_이전_날짜는_조회할_수_없다() {
+            assertThatThrownBy(() -> occupancyIndex.isFree(SITE_ID, beforeOrigin, beforeOrigin))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("2000-01-01 이전 날짜는 조회하거나 예약할 수 없습니다.");
+            assertThatThrownBy(() -> occupancyIndex.findOccupiedNights(List.of(SITE_ID), beforeOrigin, BASE))
+                    .hasMessage("2000-01-01 이전 날짜는 조회하거나 예약할 수 없습니다.");
+        }
+
+        @Test
+        void 기준일_이전_날짜는_점유할_수_없다() {
+            assertThatThrownBy(() -> occupancyIndex.reserve(SITE_ID, beforeOrigin, beforeOrigin.plusDays(1)))
+                    .hasMessage("2000-01-01 이전 날짜는 조회하거나 예약할 수 없습니다.");
+        }
+
+        @Test
+        void 기준일_당일은_인덱스_0으로_점유된다() {
+            LocalDate origin = OccupancyIndex.INDEX_ORIGIN;
+
+            assertThat(occupancyIndex.reserve(SITE_ID, origin, origin)).isTrue();
+            assertThat(occupancyIndex.isFree(SITE_ID, origin, origin.plusDays(1))).isFalse();
+            assertThat(occupancyIndex.isFree(SITE_ID, origin.plusDays(1), origin.plusDays(1))).isTrue();
+        }
+    }
+
+    @Nested
+    class 격자_조회 {
+
+        @Test
+        void 조회_시작일_기준으로_점유된_날과_홀드된_날을_돌려준다() {
+            occupancyIndex.placeHold(OTHER_SITE_ID, BASE.plusDays(3), BASE.plusDays(3));
+
+            Map<Long, BitSet> occupied = occupancyIndex.findOccupiedNights(
+                    List.of(SITE_ID, OTHER_SITE_ID), BASE.plusDays(3), BASE.plusDays(6));
+
+            assertThat(occupied.get(SITE_ID).stream()).containsExactly(2, 3);
+            assertThat(occupied.get(OTHER_SITE_ID).stream()).containsExactly(0);
+        }
+    }
+
+    @Nested
+    class 자동_배정 {
+
+        private final LocalDate startDate = BASE.plusDays(8);
+        private final LocalDate endDate = BASE.plusDays(9);
+
+        @Test
+        void 최적_배정은_기존_예약에_붙은_사이트를_고른다() {
+            Optional<Long> chosen = occupancyIndex.reserveAny(
+                    List.of(OTHER_SITE_ID, SITE_ID), startDate, endDate, SiteAssignmentStrategy.BEST_FIT);
+
+            assertThat(chosen).contains(SITE_ID);
+            assertThat(occupancyIndex.isFree(SITE_ID, startDate, endDate)).isFalse();
+        }
+
+        @Test
+        void 번호순_배정은_첫_번째_빈_사이트를_고른다() {
+            Optional<Long> chosen = occupancyIndex.reserveAny(
+                    List.of(OTHER_SITE_ID, SITE_ID), startDate, endDate, SiteAssignmentStrategy.LOWEST_SITE_NUMBER);
+
+            assertThat(chosen).contains(OTHER_SITE_ID);
+        }
+
+        @Test
+        void 홀드된_사이트는_후보에서_제외() {
+            occupancyIndex.placeHold(OTHER_SITE_ID, startDate, endDate);
+
+            Optional<Long> chosen = occupancyIndex.reserveAny(
+                    List.of(OTHER_SITE_ID), startDate, endDate, SiteAssignmentStrategy.LOWEST_SITE_NUMBER);
+
+            assertThat(chosen).isEmpty();
+        }
+    }
+
+    private ReservationPeriod period(Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        return new ReservationPeriod() {
+            @Override
+            public Long getCampsiteId() {
+                return campsiteId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.domain.Campsite;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,8 +8,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 class PointCalculatorTest {
 
@@ -17,7 +22,13 @@ class PointCalculatorTest {
 
     @BeforeEach
     void setUp() {
-        priceCalculator = new PriceCalculator();
+        CampsiteCatalog campsiteCatalog = mock(CampsiteCatalog.class);
+        given(campsiteCatalog.findBySiteNumber(anyString())).willAnswer(invocation -> {
+            Campsite campsite = new Campsite(invocation.getArgument(0), "테스트 사이트", 4);
+            campsite.fillDerivedAttributes();
+            return Optional.of(campsite);
+        });
+        priceCalculator = new PriceCalculator(campsiteCatalog);
         pointCalculator = new PointCalculator(priceCalculator);
     }
 
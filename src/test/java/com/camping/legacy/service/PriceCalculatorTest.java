@@ -1,5 +1,7 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.SiteClass;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,16 +10,25 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 class PriceCalculatorTest {
 
     private PriceCalculator priceCalculator;
+    private CampsiteCatalog campsiteCatalog;
 
     @BeforeEach
     void setUp() {
-        priceCalculator = new PriceCalculator();
+        campsiteCatalog = mock(CampsiteCatalog.class);
+        // 저장된 사이트 종류는 기본적으로 사이트 번호 규칙과 같음
+        given(campsiteCatalog.findBySiteNumber(anyString()))
+                .willAnswer(invocation -> Optional.of(campsite(invocation.getArgument(0), null)));
+        priceCalculator = new PriceCalculator(campsiteCatalog);
     }
 
     @Nested
@@ -33,7 +44,16 @@ class PriceCalculatorTest {
                 "D-1, 60000"
         })
         void 사이트_종류별_기본_가격(String siteNumber, int expectedPrice) {
-            assertThat(priceCalculator.getBasePrice(siteNumber)).isEqualTo(expectedPrice);
+            LocalDate weekday = getWeekday(LocalDate.of(2026, 3, 1)); // 비성수기 평일 = 기본가
+            assertThat(priceCalculator.calculateDailyPrice(weekday, siteNumber)).isEqualTo(expectedPrice);
+        }
+
+        @Test
+        void 사이트_번호와_다른_종류로_저장된_사이트는_저장된_종류로_계산() {
+            given(campsiteCatalog.findBySiteNumber("A-9")).willReturn(Optional.of(campsite("A-9", SiteClass.SMALL)));
+            LocalDate weekday = getWeekday(LocalDate.of(2026, 3, 1));
+
+            assertThat(priceCalculator.calculate(weekday, weekday, "A-9")).isEqualTo(50000);
         }
     }
 
@@ -169,6 +189,13 @@ class PriceCalculatorTest {
         }
     }
 
+    private Campsite campsite(String siteNumber, SiteClass siteClass) {
+        Campsite campsite = new Campsite(siteNumber, "테스트 사이트", 4);
+        campsite.setSiteClass(siteClass);
+        campsite.fillDerivedAttributes();
+        return campsite;
+    }
+
     // Helper: 평일 찾기
     private LocalDate getWeekday(LocalDate date) {
         while (date.getDayOfWeek().getValue() >= 6) {
@@ -3,6 +3,10 @@ package com.camping.legacy.service;
 import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.domain.Reservation;
 import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.DailyOccupancyRepository;
+import com.camping.legacy.repository.ReservationBatchRepository;
+import com.camping.legacy.repository.ReservationNightRepository;
+import com.camping.legacy.repository.ReservationReportRepository;
 import com.camping.legacy.repository.ReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +18,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -23,6 +28,7 @@ import static com.camping.legacy.fixture.ReservationTestBuilder.aReservation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationCancelUnitTest {
@@ -33,6 +39,48 @@ class ReservationCancelUnitTest {
     @Mock
     private CampsiteRepository campsiteRepository;
 
+    @Mock
+    private OccupancyIndex occupancyIndex;
+
+    @Mock
+    private ReservationNightRepository reservationNightRepository;
+
+    @Mock
+    private ReservationBatchRepository reservationBatchRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private ConfirmationCodeGenerator confirmationCodeGenerator;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SiteService siteService;
+
+    @Mock
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Mock
+    private SiteAttributeIndex siteAttributeIndex;
+
+    @Mock
+    private AvailabilityCache availabilityCache;
+
+    @Mock
+    private CampsiteCatalog campsiteCatalog;
+
+    @Mock
+    private DailyOccupancyRepository dailyOccupancyRepository;
+
+    @Mock
+    private ReservationReportRepository reservationReportRepository;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -104,6 +152,19 @@ class ReservationCancelUnitTest {
             assertThat(reservation.getStatus()).isEqualTo("CANCELLED_SAME_DAY");
         }
 
+        @Test
+        void 취소해도_알림은_발송하지_않는다() {
+            Reservation reservation = aReservation()
+                    .withCampsite(testCampsite)
+                    .withStartDate(LocalDate.now().plusDays(7))
+                    .build();
+            givenReservationExists(reservation);
+
+            reservationService.cancelReservation(1L, "ABC123");
+
+            then(notificationOutbox).shouldHaveNoInteractions();
+        }
+
         @Test
         void 이미_취소된_예약도_재취소_가능_멱등성() {
             Reservation reservation = aReservation()
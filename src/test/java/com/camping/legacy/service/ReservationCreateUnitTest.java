@@ -1,8 +1,17 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.config.BookingProperties;
 import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClass;
 import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.ReservationResult;
 import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.DailyOccupancyRepository;
+import com.camping.legacy.repository.ReservationBatchRepository;
+import com.camping.legacy.repository.ReservationNightRepository;
+import com.camping.legacy.repository.ReservationReportRepository;
 import com.camping.legacy.repository.ReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,19 +20,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static com.camping.legacy.fixture.CampsiteTestBuilder.aLargeSite;
 import static com.camping.legacy.fixture.ReservationRequestTestBuilder.aReservationRequest;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationCreateUnitTest {
@@ -34,6 +51,57 @@ class ReservationCreateUnitTest {
     @Mock
     private CampsiteRepository campsiteRepository;
 
+    @Mock
+    private OccupancyIndex occupancyIndex;
+
+    @Mock
+    private ReservationNightRepository reservationNightRepository;
+
+    @Mock
+    private ReservationBatchRepository reservationBatchRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private ConfirmationCodeGenerator confirmationCodeGenerator;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SiteService siteService;
+
+    @Mock
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Mock
+    private SiteAttributeIndex siteAttributeIndex;
+
+    @Mock
+    private AvailabilityCache availabilityCache;
+
+    @Mock
+    private CampsiteCatalog campsiteCatalog;
+
+    @Mock
+    private DailyOccupancyRepository dailyOccupancyRepository;
+
+    @Mock
+    private ReservationReportRepository reservationReportRepository;
+
+    @Mock
+    private PriceCalculator priceCalculator;
+
+    @Mock
+    private PointCalculator pointCalculator;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -65,7 +133,7 @@ class ReservationCreateUnitTest {
             ReservationRequest request = aReservationRequest()
                     .withSiteNumber("Z-999")
                     .build();
-            given(campsiteRepository.findBySiteNumberWithLock("Z-999")).willReturn(Optional.empty());
+            given(campsiteCatalog.findBySiteNumber("Z-999")).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> reservationService.createReservation(request))
                     .isInstanceOf(RuntimeException.class)
@@ -270,7 +338,7 @@ class ReservationCreateUnitTest {
         void 해당_기간에_이미_예약이_존재하면_예외() {
             ReservationRequest request = aReservationRequest().build();
             givenCampsiteExists();
-            given(reservationRepository.hasOverlappingReservation(any(), any(), any(), any())).willReturn(true);
+            given(occupancyIndex.reserve(any(), any(), any())).willReturn(false);
 
             assertThatThrownBy(() -> reservationService.createReservation(request))
                     .isInstanceOf(RuntimeException.class)
@@ -278,14 +346,109 @@ class ReservationCreateUnitTest {
         }
     }
 
+    @Nested
+    class 금액_계산 {
+
+        @Test
+        void 저장되는_금액과_포인트는_가격_계산기_기준이다() {
+            LocalDate startDate = LocalDate.now().plusDays(1);
+            LocalDate endDate = startDate.plusDays(2);
+            ReservationRequest request = aReservationRequest()
+                    .withDates(startDate, endDate)
+                    .build();
+            givenCampsiteExists();
+            givenNoConflictingReservation();
+            givenReservationSaveSucceeds();
+            given(priceCalculator.calculate(startDate, endDate, SiteClass.LARGE)).willReturn(240000);
+            given(pointCalculator.calculate(startDate, endDate, 240000)).willReturn(12000);
+
+            reservationService.createReservation(request);
+
+            ArgumentCaptor<Reservation> saved = ArgumentCaptor.forClass(Reservation.class);
+            then(reservationRepository).should().save(saved.capture());
+            assertThat(saved.getValue().getTotalPrice()).isEqualTo(240000);
+            assertThat(saved.getValue().getEarnedPoints()).isEqualTo(12000);
+        }
+    }
+
+    @Nested
+    class 단체_예약 {
+
+        @Test
+        void 요청이_비어있으면_예외() {
+            assertThatThrownBy(() -> reservationService.createReservationBatch(List.of()))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("예약할 사이트를 선택해주세요.");
+        }
+
+        @Test
+        void 같은_사이트의_기간이_요청_안에서_겹치면_전체_실패() {
+            LocalDate startDate = LocalDate.now().plusDays(1);
+            ReservationRequest first = aReservationRequest()
+                    .withDates(startDate, startDate.plusDays(2))
+                    .build();
+            ReservationRequest second = aReservationRequest()
+                    .withDates(startDate.plusDays(2), startDate.plusDays(3))
+                    .build();
+            given(campsiteRepository.findAllBySiteNumberInWithLock(List.of("A-1"))).willReturn(List.of(testCampsite));
+
+            assertThatThrownBy(() -> reservationService.createReservationBatch(List.of(first, second)))
+                    .isInstanceOfSatisfying(GroupReservationException.class, e -> assertThat(e.getResults())
+                            .extracting(ReservationResult::isSuccess, ReservationResult::getMessage)
+                            .containsExactly(
+                                    tuple(false, "다른 사이트의 예약 실패로 함께 취소되었습니다."),
+                                    tuple(false, "같은 사이트의 기간이 요청 안에서 겹칩니다.")));
+            then(reservationBatchRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    class 사이트_자동_배정 {
+
+        private final Campsite secondSite = aLargeSite().withId(2L).withSiteNumber("A-2").build();
+
+        @Test
+        void 전략이_고른_사이트로_예약() {
+            ReservationRequest request = aReservationRequest().withSiteClass("대형").build();
+            given(siteAttributeIndex.find(SiteQuery.ofSize("대형"))).willReturn(List.of(testCampsite, secondSite));
+            given(occupancyIndex.reserveAny(eq(List.of(1L, 2L)), any(), any(), any())).willReturn(Optional.of(2L));
+            given(campsiteCatalog.findBySiteNumber("A-2")).willReturn(Optional.of(secondSite));
+            givenReservationSaveSucceeds();
+
+            ReservationResponse response = reservationService.createReservation(request);
+
+            assertThat(response.getSiteNumber()).isEqualTo("A-2");
+        }
+
+        @Test
+        void 비어_있는_사이트가_없으면_예외() {
+            ReservationRequest request = aReservationRequest().withSiteClass("대형").build();
+            given(siteAttributeIndex.find(SiteQuery.ofSize("대형"))).willReturn(List.of(testCampsite, secondSite));
+            given(occupancyIndex.reserveAny(any(), any(), any(), any())).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> reservationService.createReservation(request))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("해당 기간에 예약 가능한 대형 사이트가 없습니다.");
+        }
+
+        @Test
+        void 존재하지_않는_사이트_종류면_예외() {
+            ReservationRequest request = aReservationRequest().withSiteClass("초대형").build();
+
+            assertThatThrownBy(() -> reservationService.createReservation(request))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("존재하지 않는 사이트 종류입니다.");
+        }
+    }
+
     // === Helper Methods ===
 
     private void givenCampsiteExists() {
-        given(campsiteRepository.findBySiteNumberWithLock("A-1")).willReturn(Optional.of(testCampsite));
+        given(campsiteCatalog.findBySiteNumber("A-1")).willReturn(Optional.of(testCampsite));
     }
 
     private void givenNoConflictingReservation() {
-        given(reservationRepository.hasOverlappingReservation(any(), any(), any(), any())).willReturn(false);
+        given(occupancyIndex.reserve(any(), any(), any())).willReturn(true);
     }
 
     private void givenReservationSaveSucceeds() {
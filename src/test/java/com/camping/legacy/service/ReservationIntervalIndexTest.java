@@ -0,0 +1,97 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.repository.ReservationInterval;
+import com.camping.legacy.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aLargeSite;
+import static com.camping.legacy.fixture.ReservationTestBuilder.aReservation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIntervalIndexTest {
+
+    private static final Long SITE_ID = 1L;
+    private static final Long OTHER_SITE_ID = 2L;
+    private static final LocalDate BASE = LocalDate.of(2030, 8, 1);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    private final Campsite site = aLargeSite().withId(SITE_ID).build();
+
+    @BeforeEach
+    void setUp() {
+        given(reservationRepository.findIntervalsByStatus("CONFIRMED")).willReturn(List.of(
+                interval(10L, SITE_ID, BASE.plusDays(5), BASE.plusDays(7)),
+                interval(11L, OTHER_SITE_ID, BASE.plusDays(6), BASE.plusDays(6))));
+        reservationIntervalIndex.reload();
+    }
+
+    @Test
+    void 로딩된_예약과_겹치는지_사이트별로_확인() {
+        assertThat(reservationIntervalIndex.hasOverlap(SITE_ID, BASE.plusDays(7), BASE.plusDays(9))).isTrue();
+        assertThat(reservationIntervalIndex.hasOverlap(SITE_ID, BASE.plusDays(8), BASE.plusDays(9))).isFalse();
+    }
+
+    @Test
+    void 전체_사이트에서_겹치는_예약_ID를_조회() {
+        assertThat(reservationIntervalIndex.findOverlapping(BASE.plusDays(6), BASE.plusDays(6)))
+                .containsExactlyInAnyOrder(10L, 11L);
+    }
+
+    @Test
+    void 기간을_변경하면_이전_기간은_조회되지_않는다() {
+        reservationIntervalIndex.confirmed(aReservation().withId(10L).withCampsite(site)
+                .withDates(BASE.plusDays(20), BASE.plusDays(21)).build());
+
+        assertThat(reservationIntervalIndex.findOverlapping(SITE_ID, BASE.plusDays(5), BASE.plusDays(7))).isEmpty();
+        assertThat(reservationIntervalIndex.findOverlapping(SITE_ID, BASE.plusDays(21), BASE.plusDays(21)))
+                .containsExactly(10L);
+        assertThat(reservationIntervalIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 취소된_예약은_제거된다() {
+        reservationIntervalIndex.released(10L);
+
+        assertThat(reservationIntervalIndex.hasOverlap(SITE_ID, BASE.plusDays(5), BASE.plusDays(7))).isFalse();
+    }
+
+    private ReservationInterval interval(Long id, Long campsiteId, LocalDate startDate, LocalDate endDate) {
+        return new ReservationInterval() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCampsiteId() {
+                return campsiteId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aLargeSite;
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aSmallSite;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class SiteAttributeIndexTest {
+
+    @Mock
+    private CampsiteCatalog campsiteCatalog;
+
+    @InjectMocks
+    private SiteAttributeIndex siteAttributeIndex;
+
+    @BeforeEach
+    void setUp() {
+        Campsite noElectricity = aSmallSite().withId(3L).withSiteNumber("B-2").withMaxPeople(2).build();
+        noElectricity.setHasElectricity(false);
+        given(campsiteCatalog.findAll()).willReturn(List.of(
+                aSmallSite().withId(2L).build(),
+                aLargeSite().withId(1L).build(),
+                noElectricity));
+    }
+
+    @Test
+    void 조건이_없으면_전체_사이트를_등록_순으로() {
+        assertThat(siteAttributeIndex.find(SiteQuery.all()))
+                .extracting(Campsite::getSiteNumber)
+                .containsExactly("A-1", "B-1", "B-2");
+    }
+
+    @Test
+    void 여러_조건의_교집합() {
+        List<Campsite> sites = siteAttributeIndex.find(new SiteQuery("소형", true, "B", 4));
+
+        assertThat(sites).extracting(Campsite::getSiteNumber).containsExactly("B-1");
+    }
+
+    @Test
+    void 최소_인원_이상인_사이트만() {
+        assertThat(siteAttributeIndex.find(new SiteQuery(null, null, null, 5)))
+                .extracting(Campsite::getSiteNumber)
+                .containsExactly("A-1");
+    }
+
+    @Test
+    void 무효화_전까지는_사이트_목록을_다시_읽지_않는다() {
+        siteAttributeIndex.find(SiteQuery.all());
+        siteAttributeIndex.find(SiteQuery.ofSize("대형"));
+        siteAttributeIndex.invalidate();
+        siteAttributeIndex.find(SiteQuery.all());
+
+        then(campsiteCatalog).should(times(2)).findAll();
+    }
+}
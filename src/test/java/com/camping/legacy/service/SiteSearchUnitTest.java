@@ -1,8 +1,13 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.config.CacheProperties;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.dto.AvailabilityMatrixResponse;
+import com.camping.legacy.dto.FlexibleSearchRequest;
+import com.camping.legacy.dto.FlexibleSearchResult;
+import com.camping.legacy.dto.SiteAvailabilityResponse;
 import com.camping.legacy.dto.SiteSearchRequest;
-import com.camping.legacy.repository.CampsiteRepository;
-import com.camping.legacy.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,23 +16,42 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import static com.camping.legacy.fixture.CampsiteTestBuilder.aLargeSite;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class SiteSearchUnitTest {
 
     @Mock
-    private CampsiteRepository campsiteRepository;
+    private CampsiteCatalog campsiteCatalog;
 
     @Mock
-    private ReservationRepository reservationRepository;
+    private OccupancyIndex occupancyIndex;
+
+    @Mock
+    private SiteAttributeIndex siteAttributeIndex;
+
+    @Spy
+    private AvailabilityCache availabilityCache = new AvailabilityCache(new CacheProperties());
 
     @InjectMocks
     private SiteService siteService;
@@ -82,13 +106,141 @@ class SiteSearchUnitTest {
         void 시작일과_종료일이_같으면_당일검색_가능() {
             LocalDate sameDay = LocalDate.now().plusDays(5);
             SiteSearchRequest request = createRequest(sameDay, sameDay, null);
-            given(campsiteRepository.findAll()).willReturn(java.util.Collections.emptyList());
+            given(siteAttributeIndex.find(SiteQuery.all())).willReturn(java.util.Collections.emptyList());
 
             assertThatCode(() -> siteService.searchAvailableSites(request))
                     .doesNotThrowAnyException();
         }
     }
 
+    @Nested
+    class 검색_결과 {
+
+        private final Campsite largeSite = aLargeSite().withId(1L).build();
+        private final Campsite otherLargeSite = aLargeSite().withId(2L).withSiteNumber("A-2").build();
+
+        @Test
+        void 속성_필터를_적용한_사이트만_점유_여부를_조회한다() {
+            LocalDate startDate = LocalDate.now().plusDays(5);
+            LocalDate endDate = startDate.plusDays(2);
+            given(siteAttributeIndex.find(SiteQuery.ofSize("대형"))).willReturn(List.of(largeSite, otherLargeSite));
+            given(occupancyIndex.findFree(List.of(1L, 2L), startDate, endDate)).willReturn(Set.of(2L));
+
+            List<SiteAvailabilityResponse> result =
+                    siteService.searchAvailableSites(createRequest(startDate, endDate, "대형"));
+
+            assertThat(result).extracting(SiteAvailabilityResponse::getSiteNumber).containsExactly("A-2");
+        }
+
+        @Test
+        void 같은_조건으로_다시_검색하면_캐시에서_돌려준다() {
+            LocalDate startDate = LocalDate.now().plusDays(5);
+            LocalDate endDate = startDate.plusDays(2);
+            given(siteAttributeIndex.find(SiteQuery.ofSize("대형"))).willReturn(List.of(largeSite));
+            given(occupancyIndex.findFree(List.of(1L), startDate, endDate)).willReturn(Set.of(1L));
+
+            siteService.searchAvailableSites(createRequest(startDate, endDate, "대형"));
+            List<SiteAvailabilityResponse> result =
+                    siteService.searchAvailableSites(createRequest(startDate, endDate, "대형"));
+
+            assertThat(result).extracting(SiteAvailabilityResponse::getSiteNumber).containsExactly("A-1");
+            then(occupancyIndex).should(times(1)).findFree(List.of(1L), startDate, endDate);
+        }
+    }
+
+    @Nested
+    class 기간_예약_가능_여부 {
+
+        @Test
+        void 사이트를_한_번_조회하고_기간_전체를_한_번에_확인한다() {
+            LocalDate startDate = LocalDate.now().plusDays(5);
+            LocalDate endDate = startDate.plusDays(29);
+            given(campsiteCatalog.findBySiteNumber("A-1")).willReturn(Optional.of(aLargeSite().withId(1L).build()));
+            given(occupancyIndex.isFree(1L, startDate, endDate)).willReturn(false);
+
+            boolean available = siteService.checkPeriodAvailability("A-1", startDate, endDate);
+
+            assertThat(available).isFalse();
+            then(campsiteCatalog).should(times(1)).findBySiteNumber("A-1");
+        }
+
+        @Test
+        void 종료일이_시작일보다_이전이면_예외() {
+            LocalDate startDate = LocalDate.now().plusDays(5);
+
+            assertThatThrownBy(() -> siteService.checkPeriodAvailability("A-1", startDate, startDate.minusDays(1)))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("종료일이 시작일보다 이전일 수 없습니다.");
+        }
+    }
+
+    @Nested
+    class 예약_가능_격자 {
+
+        @Test
+        void 사이트마다_날짜별_가능_여부를_한_줄로_인코딩한다() {
+            LocalDate from = LocalDate.now().plusDays(1);
+            BitSet occupied = new BitSet();
+            occupied.set(1, 3);
+            given(siteAttributeIndex.find(SiteQuery.all())).willReturn(List.of(
+                    aLargeSite().withId(1L).build(), aLargeSite().withId(2L).withSiteNumber("A-2").build()));
+            given(occupancyIndex.findOccupiedNights(List.of(1L, 2L), from, from.plusDays(3)))
+                    .willReturn(Map.of(1L, occupied, 2L, new BitSet()));
+
+            AvailabilityMatrixResponse matrix = siteService.getAvailabilityMatrix(from, from.plusDays(3), null);
+
+            assertThat(matrix.getSites())
+                    .extracting(AvailabilityMatrixResponse.Row::getSiteNumber, AvailabilityMatrixResponse.Row::getAvailability)
+                    .containsExactly(tuple("A-1", "1001"), tuple("A-2", "1111"));
+        }
+    }
+
+    @Nested
+    class 유연한_날짜_검색 {
+
+        private final LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        @BeforeEach
+        void setUp() {
+            BitSet occupied = new BitSet();
+            occupied.set(2);
+            given(siteAttributeIndex.find(SiteQuery.all())).willReturn(List.of(aLargeSite().withId(1L).build()));
+            given(occupancyIndex.findOccupiedNights(List.of(1L), monday, monday.plusDays(5)))
+                    .willReturn(Map.of(1L, occupied));
+        }
+
+        @Test
+        void 빈_구간마다_N박이_들어가는_시작일을_모두_찾는다() {
+            List<FlexibleSearchResult> results = siteService.searchFlexibleDates(
+                    new FlexibleSearchRequest(monday, monday.plusDays(5), 1, null, null));
+
+            assertThat(results).extracting(FlexibleSearchResult::getStartDate, FlexibleSearchResult::getEndDate)
+                    .containsExactly(
+                            tuple(monday, monday.plusDays(1)),
+                            tuple(monday.plusDays(3), monday.plusDays(4)),
+                            tuple(monday.plusDays(4), monday.plusDays(5)));
+        }
+
+        @Test
+        void N박은_예약과_같이_종료일_빼기_시작일로_센다() {
+            List<FlexibleSearchResult> results = siteService.searchFlexibleDates(
+                    new FlexibleSearchRequest(monday, monday.plusDays(5), 2, null, null));
+
+            // 월~화 빈 구간은 2일뿐이라 2박(3일)이 들어가지 않음
+            assertThat(results).extracting(FlexibleSearchResult::getStartDate, FlexibleSearchResult::getEndDate)
+                    .containsExactly(tuple(monday.plusDays(3), monday.plusDays(5)));
+        }
+
+        @Test
+        void 시작_요일_조건을_적용한다() {
+            List<FlexibleSearchResult> results = siteService.searchFlexibleDates(
+                    new FlexibleSearchRequest(monday, monday.plusDays(5), 1, null, Set.of(DayOfWeek.THURSDAY)));
+
+            assertThat(results).extracting(FlexibleSearchResult::getStartDate, FlexibleSearchResult::getEndDate)
+                    .containsExactly(tuple(monday.plusDays(3), monday.plusDays(4)));
+        }
+    }
+
     // Helper method
     private SiteSearchRequest createRequest(LocalDate startDate, LocalDate endDate, String size) {
         return new SiteSearchRequest(startDate, endDate, size);
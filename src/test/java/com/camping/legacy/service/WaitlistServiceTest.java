@@ -0,0 +1,131 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.SiteClass;
+import com.camping.legacy.domain.WaitlistEntry;
+import com.camping.legacy.dto.HoldResponse;
+import com.camping.legacy.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    private static final String SITE_NUMBER = "A-1";
+    private final LocalDate startDate = LocalDate.now().plusDays(10);
+    private final LocalDate endDate = startDate.plusDays(2);
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private CampsiteCatalog campsiteCatalog;
+
+    @Mock
+    private HoldService holdService;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WaitlistService waitlistService;
+
+    private WaitlistEntry first;
+    private WaitlistEntry second;
+
+    @BeforeEach
+    void setUp() {
+        waitlistService = new WaitlistService(waitlistEntryRepository, campsiteCatalog, holdService,
+                notificationOutbox, new TransactionTemplate(transactionManager));
+        first = entry(1L, "홍길동");
+        second = entry(2L, "김철수");
+        given(waitlistEntryRepository.findByStatusOrderByIdAsc("WAITING")).willReturn(List.of(first, second));
+        waitlistService.reload();
+    }
+
+    @Test
+    void 비워진_기간은_먼저_등록한_대기_요청에_배정() {
+        given(holdService.createHold(any())).willReturn(hold("hold-1")).willThrow(alreadyHeld());
+        given(waitlistEntryRepository.findById(1L)).willReturn(Optional.of(first));
+
+        waitlistService.allocate(SITE_NUMBER, startDate, endDate);
+
+        assertThat(first.getStatus()).isEqualTo("OFFERED");
+        assertThat(first.getHoldId()).isEqualTo("hold-1");
+        assertThat(second.getStatus()).isEqualTo("WAITING");
+    }
+
+    @Test
+    void 배정된_홀드가_만료되면_만료_처리하고_다음_대기_요청에_배정() {
+        given(holdService.createHold(any()))
+                .willReturn(hold("hold-1"))
+                .willThrow(alreadyHeld())
+                .willReturn(hold("hold-2"));
+        given(waitlistEntryRepository.findById(1L)).willReturn(Optional.of(first));
+        given(waitlistEntryRepository.findById(2L)).willReturn(Optional.of(second));
+        waitlistService.allocate(SITE_NUMBER, startDate, endDate);
+        given(waitlistEntryRepository.findByHoldIdAndStatus("hold-1", "OFFERED")).willReturn(Optional.of(first));
+
+        // 홀드 만료 → HoldReleasedEvent 후 점유 해제 이벤트 순으로 처리
+        waitlistService.expireOffer("hold-1");
+        waitlistService.allocate(SITE_NUMBER, startDate, endDate);
+
+        assertThat(first.getStatus()).isEqualTo("EXPIRED");
+        assertThat(second.getStatus()).isEqualTo("OFFERED");
+        assertThat(second.getHoldId()).isEqualTo("hold-2");
+    }
+
+    @Test
+    void 사이트_종류_대기는_저장된_사이트_종류로_찾는다() {
+        WaitlistEntry byClass = entry(3L, "이영희");
+        byClass.setSiteNumber(null);
+        byClass.setSiteClass(SiteClass.SMALL);
+        given(waitlistEntryRepository.findByStatusOrderByIdAsc("WAITING")).willReturn(List.of(byClass));
+        waitlistService.reload();
+        // 번호는 대형(A) 규칙이지만 소형으로 저장된 사이트
+        Campsite campsite = new Campsite("A-9", "소형 사이트", 4);
+        campsite.setSiteClass(SiteClass.SMALL);
+        given(campsiteCatalog.findBySiteNumber("A-9")).willReturn(Optional.of(campsite));
+        given(holdService.createHold(any())).willReturn(hold("hold-3"));
+        given(waitlistEntryRepository.findById(3L)).willReturn(Optional.of(byClass));
+
+        waitlistService.allocate("A-9", startDate, endDate);
+
+        assertThat(byClass.getStatus()).isEqualTo("OFFERED");
+    }
+
+    private WaitlistEntry entry(Long id, String customerName) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        entry.setSiteNumber(SITE_NUMBER);
+        entry.setStartDate(startDate);
+        entry.setEndDate(endDate);
+        entry.setCustomerName(customerName);
+        entry.setStatus("WAITING");
+        return entry;
+    }
+
+    private RuntimeException alreadyHeld() {
+        return new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+    }
+
+    private HoldResponse hold(String holdId) {
+        return new HoldResponse(holdId, SITE_NUMBER, startDate, endDate, LocalDateTime.now().plusMinutes(10));
+    }
+}
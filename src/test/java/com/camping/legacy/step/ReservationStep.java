@@ -28,6 +28,25 @@ public class ReservationStep {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 멱등성_키로_예약을_생성한다(String idempotencyKey, String customerName, LocalDate startDate, LocalDate endDate, String siteNumber, String phoneNumber) {
+        return RestAssured.given()
+                .log().all()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(Map.of(
+                        "customerName", customerName,
+                        "startDate", startDate.toString(),
+                        "endDate", endDate.toString(),
+                        "siteNumber", siteNumber,
+                        "phoneNumber", phoneNumber
+                ))
+            .when()
+                .post("/api/reservations")
+            .then()
+                .log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 예약을_취소한다(ExtractableResponse<Response> 예약) {
         var reservationId = 예약.jsonPath().getLong("id");
         var confirmationCode = 예약.jsonPath().getString("confirmationCode");
@@ -59,4 +78,17 @@ public class ReservationStep {
                 .log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 예약을_내보낸다(String format, LocalDate from, LocalDate to) {
+        return RestAssured.given()
+                .log().all()
+                .queryParam("format", format)
+                .queryParam("from", from.toString())
+                .queryParam("to", to.toString())
+            .when()
+                .get("/api/reservations/export")
+            .then()
+                .log().all()
+                .extract();
+    }
 }